@@ -0,0 +1,47 @@
+package ch.obermuhlner.javafx.gridform.benchmark;
+
+import javafx.beans.property.*;
+import javafx.collections.FXCollections;
+
+/**
+ * Model classes shared by the benchmarks.
+ */
+public final class BenchmarkModel {
+
+    private BenchmarkModel() {
+    }
+
+    public enum Animal {
+        Dog,
+        Cat,
+        Cow,
+        Fish
+    }
+
+    public static class Pet {
+        private final StringProperty name = new SimpleStringProperty();
+        private final DoubleProperty weight = new SimpleDoubleProperty();
+        private final ObjectProperty<Animal> animal = new SimpleObjectProperty<>();
+        private final ListProperty<Animal> friends = new SimpleListProperty<>(FXCollections.observableArrayList());
+
+        public Pet(String name) {
+            this.name.set(name);
+        }
+
+        public StringProperty nameProperty() {
+            return name;
+        }
+
+        public DoubleProperty weightProperty() {
+            return weight;
+        }
+
+        public ObjectProperty<Animal> animalProperty() {
+            return animal;
+        }
+
+        public ListProperty<Animal> friendsProperty() {
+            return friends;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package ch.obermuhlner.javafx.gridform.benchmark;
+
+import ch.obermuhlner.javafx.gridform.GridForm;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.scene.control.Slider;
+import javafx.scene.control.TextField;
+import javafx.scene.layout.GridPane;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of the bidirectional bindings created by {@code textField(Property, Format)} and {@code slider()}
+ * in both directions.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class BindingThroughputBenchmark {
+
+    private static final int VALUE_COUNT = 1024;
+
+    private final DoubleProperty textFieldProperty = new SimpleDoubleProperty();
+    private final DoubleProperty sliderProperty = new SimpleDoubleProperty();
+
+    private final String[] texts = new String[VALUE_COUNT];
+
+    private GridForm gridForm;
+    private TextField textField;
+    private Slider slider;
+
+    private int index;
+
+    @Setup
+    public void setup() {
+        FxPlatform.start();
+
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            texts[i] = GridForm.DOUBLE_FORMAT.format(i * 0.5);
+        }
+
+        gridForm = new GridForm(new GridPane());
+        gridForm.row()
+                .label("TextField")
+                .textField(textFieldProperty, GridForm.DOUBLE_FORMAT)
+                .with(textField -> this.textField = textField);
+        gridForm.row()
+                .label("Slider")
+                .slider(sliderProperty, 0, VALUE_COUNT)
+                .with(slider -> this.slider = slider);
+    }
+
+    @TearDown
+    public void tearDown() {
+        gridForm.dispose();
+    }
+
+    private int nextIndex() {
+        index = (index + 1) % VALUE_COUNT;
+        return index;
+    }
+
+    @Benchmark
+    public String textFieldModelToControl() {
+        textFieldProperty.set(nextIndex() * 0.5);
+        return textField.getText();
+    }
+
+    @Benchmark
+    public double textFieldControlToModel() {
+        textField.setText(texts[nextIndex()]);
+        return textFieldProperty.get();
+    }
+
+    @Benchmark
+    public double sliderModelToControl() {
+        sliderProperty.set(nextIndex());
+        return slider.getValue();
+    }
+
+    @Benchmark
+    public double sliderControlToModel() {
+        slider.setValue(nextIndex());
+        return sliderProperty.get();
+    }
+}
@@ -0,0 +1,85 @@
+package ch.obermuhlner.javafx.gridform.benchmark;
+
+import ch.obermuhlner.javafx.gridform.FormTemplate;
+import ch.obermuhlner.javafx.gridform.GridForm;
+import ch.obermuhlner.javafx.gridform.benchmark.BenchmarkModel.Animal;
+import ch.obermuhlner.javafx.gridform.benchmark.BenchmarkModel.Pet;
+import javafx.scene.layout.GridPane;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares instantiating a {@link FormTemplate} many times with building the same rows ad hoc.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class FormTemplateBenchmark {
+
+    @Param({"100", "1000"})
+    public int instanceCount;
+
+    private final FormTemplate<Pet> template = new FormTemplate<>();
+
+    private Pet[] pets;
+
+    private GridForm gridForm;
+
+    @Setup
+    public void setup() {
+        FxPlatform.start();
+
+        template.row()
+                .label("Name")
+                .textField(Pet::nameProperty);
+        template.row()
+                .label("Weight")
+                .textField(Pet::weightProperty, GridForm.DOUBLE_FORMAT);
+        template.row()
+                .label("Animal")
+                .comboBox(Pet::animalProperty, Animal.values());
+        template.row()
+                .label("Friends")
+                .checkBoxes(Pet::friendsProperty, Animal.values());
+
+        pets = new Pet[instanceCount];
+        for (int i = 0; i < instanceCount; i++) {
+            pets[i] = new Pet("Pet " + i);
+        }
+    }
+
+    @TearDown(Level.Invocation)
+    public void dispose() {
+        gridForm.dispose();
+    }
+
+    @Benchmark
+    public GridPane adHoc() {
+        gridForm = new GridForm(new GridPane());
+        for (Pet pet : pets) {
+            gridForm.row()
+                    .label("Name")
+                    .textField(pet.nameProperty());
+            gridForm.row()
+                    .label("Weight")
+                    .textField(pet.weightProperty(), GridForm.DOUBLE_FORMAT);
+            gridForm.row()
+                    .label("Animal")
+                    .comboBox(pet.animalProperty(), Animal.values());
+            gridForm.row()
+                    .label("Friends")
+                    .checkBoxes(pet.friendsProperty(), Animal.values());
+        }
+        return gridForm.getGridPane();
+    }
+
+    @Benchmark
+    public GridPane template() {
+        gridForm = new GridForm(new GridPane());
+        for (Pet pet : pets) {
+            template.instantiate(gridForm, pet);
+        }
+        return gridForm.getGridPane();
+    }
+}
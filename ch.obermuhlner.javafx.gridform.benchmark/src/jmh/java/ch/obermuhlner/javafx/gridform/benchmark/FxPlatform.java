@@ -0,0 +1,80 @@
+package ch.obermuhlner.javafx.gridform.benchmark;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Starts the JavaFX toolkit for the benchmarks.
+ *
+ * <p>The benchmarks build detached forms that are not part of a scene,
+ * which JavaFX allows on any thread once the toolkit is started.
+ * Benchmarks that use a scene run their work on the JavaFX application thread with {@link #runAndWait(Runnable)}
+ * or {@link #runAndWaitForPulse(Runnable)}.</p>
+ */
+final class FxPlatform {
+
+    private static boolean started;
+
+    private FxPlatform() {
+    }
+
+    static synchronized void start() {
+        if (started) {
+            return;
+        }
+
+        try {
+            Platform.startup(() -> {});
+        } catch (IllegalStateException e) {
+            // toolkit already running
+        }
+        Platform.setImplicitExit(false);
+        started = true;
+    }
+
+    /**
+     * Runs the runnable on the JavaFX application thread and waits until it has completed.
+     */
+    static void runAndWait(Runnable runnable) {
+        FutureTask<Void> task = new FutureTask<>(runnable, null);
+        Platform.runLater(task);
+        try {
+            task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Runs the runnable on the JavaFX application thread and waits until the following pulse,
+     * including its animation timers, CSS and layout pass, has completed.
+     */
+    static void runAndWaitForPulse(Runnable runnable) {
+        CountDownLatch pulse = new CountDownLatch(1);
+        runAndWait(() -> {
+            runnable.run();
+            new AnimationTimer() {
+                @Override
+                public void handle(long now) {
+                    stop();
+                    // runs after the pulse that called this timer
+                    Platform.runLater(pulse::countDown);
+                }
+            }.start();
+        });
+
+        try {
+            pulse.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package ch.obermuhlner.javafx.gridform.benchmark;
+
+import ch.obermuhlner.javafx.gridform.GridForm;
+import ch.obermuhlner.javafx.gridform.RowBuilder;
+import ch.obermuhlner.javafx.gridform.benchmark.BenchmarkModel.Animal;
+import javafx.beans.property.*;
+import javafx.collections.FXCollections;
+import javafx.scene.layout.GridPane;
+import javafx.scene.paint.Color;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time to build a {@link GridForm} with N rows of a single control type.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class GridFormBuildBenchmark {
+
+    @Param({"100", "1000"})
+    public int rowCount;
+
+    @Param({"label", "textField", "slider", "checkBox", "comboBox", "choiceBox", "radioButtons", "checkBoxes", "listView", "datePicker", "colorPicker"})
+    public String controlType;
+
+    private final StringProperty stringProperty = new SimpleStringProperty("Alpha");
+    private final DoubleProperty doubleProperty = new SimpleDoubleProperty(Math.PI);
+    private final BooleanProperty booleanProperty = new SimpleBooleanProperty();
+    private final ObjectProperty<Animal> animalProperty = new SimpleObjectProperty<>(Animal.Cat);
+    private final ListProperty<Animal> selectedAnimalListProperty = new SimpleListProperty<>(FXCollections.observableArrayList(Animal.Dog));
+    private final ObjectProperty<LocalDate> dateProperty = new SimpleObjectProperty<>(LocalDate.now());
+    private final ObjectProperty<Color> colorProperty = new SimpleObjectProperty<>(Color.PEACHPUFF);
+
+    private GridForm gridForm;
+
+    @Setup
+    public void setup() {
+        FxPlatform.start();
+    }
+
+    @TearDown(Level.Invocation)
+    public void dispose() {
+        gridForm.dispose();
+    }
+
+    @Benchmark
+    public GridPane build() {
+        gridForm = new GridForm(new GridPane());
+        for (int i = 0; i < rowCount; i++) {
+            buildCell(gridForm.row().label("Label"));
+        }
+        return gridForm.getGridPane();
+    }
+
+    private void buildCell(RowBuilder rowBuilder) {
+        switch (controlType) {
+            case "label":
+                rowBuilder.label(stringProperty);
+                break;
+            case "textField":
+                rowBuilder.textField(doubleProperty, GridForm.DOUBLE_FORMAT);
+                break;
+            case "slider":
+                rowBuilder.slider(doubleProperty, 0, 10);
+                break;
+            case "checkBox":
+                rowBuilder.checkBox(booleanProperty);
+                break;
+            case "comboBox":
+                rowBuilder.comboBox(animalProperty, Animal.values());
+                break;
+            case "choiceBox":
+                rowBuilder.choiceBox(animalProperty, Animal.values());
+                break;
+            case "radioButtons":
+                rowBuilder.radioButtons(animalProperty, Animal.values());
+                break;
+            case "checkBoxes":
+                rowBuilder.checkBoxes(selectedAnimalListProperty, Animal.values());
+                break;
+            case "listView":
+                rowBuilder.listView(selectedAnimalListProperty, Animal.values());
+                break;
+            case "datePicker":
+                rowBuilder.datePicker(dateProperty);
+                break;
+            case "colorPicker":
+                rowBuilder.colorPicker(colorProperty);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown control type: " + controlType);
+        }
+    }
+}
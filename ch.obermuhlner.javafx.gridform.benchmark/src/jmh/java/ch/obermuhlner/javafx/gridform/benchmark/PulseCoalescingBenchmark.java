@@ -0,0 +1,119 @@
+package ch.obermuhlner.javafx.gridform.benchmark;
+
+import ch.obermuhlner.javafx.gridform.GridForm;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.scene.Scene;
+import javafx.scene.layout.GridPane;
+import javafx.stage.Stage;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares labels updated on every model change with labels updated once per pulse ({@link GridForm#setPulseCoalescing(boolean)})
+ * for increasing numbers of model updates per frame.
+ *
+ * <p>Every invocation is one frame: the model is updated on the JavaFX application thread and the following pulse is awaited.
+ * Besides the time per frame, the CPU time of the JavaFX application thread per frame is reported as {@code fxThreadCpuMicrosPerFrame},
+ * which stays flat with pulse coalescing as the update rate rises.</p>
+ * <pre>
+ * ./gradlew :ch.obermuhlner.javafx.gridform.benchmark:jmh -PjmhInclude=PulseCoalescing
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class PulseCoalescingBenchmark {
+
+    private static final int LABEL_COUNT = 10;
+
+    @Param({"1", "10", "100", "1000"})
+    public int updatesPerFrame;
+
+    @Param({"false", "true"})
+    public boolean pulseCoalescing;
+
+    private final DoubleProperty[] properties = new DoubleProperty[LABEL_COUNT];
+
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+    private Stage stage;
+    private GridForm gridForm;
+    private long fxThreadId;
+    private double value;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class FxThreadTime {
+        public double fxThreadCpuMicrosPerFrame;
+
+        private long cpuNanos;
+        private long frameCount;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            fxThreadCpuMicrosPerFrame = 0;
+            cpuNanos = 0;
+            frameCount = 0;
+        }
+
+        void record(long frameCpuNanos) {
+            cpuNanos += frameCpuNanos;
+            frameCount++;
+            fxThreadCpuMicrosPerFrame = cpuNanos / 1000.0 / frameCount;
+        }
+    }
+
+    @Setup
+    public void setup() {
+        FxPlatform.start();
+
+        for (int i = 0; i < LABEL_COUNT; i++) {
+            properties[i] = new SimpleDoubleProperty();
+        }
+
+        FxPlatform.runAndWait(() -> {
+            fxThreadId = Thread.currentThread().getId();
+
+            GridPane gridPane = new GridPane();
+            gridForm = new GridForm(gridPane);
+            gridForm.setPulseCoalescing(pulseCoalescing);
+            for (DoubleProperty property : properties) {
+                gridForm.row()
+                        .label("Telemetry")
+                        .label(property, GridForm.DOUBLE_FORMAT);
+            }
+
+            stage = new Stage();
+            stage.setScene(new Scene(gridPane));
+            stage.show();
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        FxPlatform.runAndWait(() -> {
+            stage.hide();
+            gridForm.dispose();
+        });
+    }
+
+    @Benchmark
+    public void frame(FxThreadTime fxThreadTime) {
+        long cpuNanosBefore = threadMXBean.getThreadCpuTime(fxThreadId);
+
+        FxPlatform.runAndWaitForPulse(() -> {
+            for (int i = 0; i < updatesPerFrame; i++) {
+                value++;
+                for (DoubleProperty property : properties) {
+                    property.set(value);
+                }
+            }
+        });
+
+        fxThreadTime.record(threadMXBean.getThreadCpuTime(fxThreadId) - cpuNanosBefore);
+    }
+}
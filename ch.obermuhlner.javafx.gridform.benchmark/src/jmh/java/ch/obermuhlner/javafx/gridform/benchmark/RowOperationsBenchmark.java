@@ -0,0 +1,83 @@
+package ch.obermuhlner.javafx.gridform.benchmark;
+
+import ch.obermuhlner.javafx.gridform.GridForm;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.layout.GridPane;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures inserting, removing and moving a row in the middle of a large form,
+ * compared with rewriting the row constraints of all following nodes manually.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class RowOperationsBenchmark {
+
+    @Param({"10000"})
+    public int rowCount;
+
+    private GridForm gridForm;
+
+    @Setup
+    public void setup() {
+        FxPlatform.start();
+
+        gridForm = new GridForm(new GridPane());
+        gridForm.batch(form -> {
+            for (int i = 0; i < rowCount; i++) {
+                form.row()
+                        .label("Label " + i)
+                        .label("Value " + i);
+            }
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        gridForm.clear();
+    }
+
+    @Benchmark
+    public int insertAndRemoveRow() {
+        int index = rowCount / 2;
+        gridForm.insertRow(index).label("Inserted");
+        gridForm.removeRow(index);
+        return gridForm.getRowCount();
+    }
+
+    @Benchmark
+    public int moveRowNearby() {
+        int index = rowCount / 2;
+        gridForm.moveRow(index, index + 10);
+        gridForm.moveRow(index + 10, index);
+        return gridForm.getRowCount();
+    }
+
+    @Benchmark
+    public int insertAndRemoveRowManually() {
+        int index = rowCount / 2;
+        GridPane gridPane = gridForm.getGridPane();
+
+        for (Node node : gridPane.getChildren()) {
+            Integer rowIndex = GridPane.getRowIndex(node);
+            if (rowIndex != null && rowIndex >= index) {
+                GridPane.setRowIndex(node, rowIndex + 1);
+            }
+        }
+        Label label = new Label("Inserted");
+        gridPane.add(label, 0, index);
+
+        gridPane.getChildren().remove(label);
+        for (Node node : gridPane.getChildren()) {
+            Integer rowIndex = GridPane.getRowIndex(node);
+            if (rowIndex != null && rowIndex > index) {
+                GridPane.setRowIndex(node, rowIndex - 1);
+            }
+        }
+        return gridPane.getChildren().size();
+    }
+}
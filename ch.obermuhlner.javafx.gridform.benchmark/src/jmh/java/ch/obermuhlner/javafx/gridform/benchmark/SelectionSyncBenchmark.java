@@ -0,0 +1,108 @@
+package ch.obermuhlner.javafx.gridform.benchmark;
+
+import ch.obermuhlner.javafx.gridform.GridForm;
+import javafx.beans.property.ListProperty;
+import javafx.beans.property.SimpleListProperty;
+import javafx.collections.FXCollections;
+import javafx.scene.control.CheckBox;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.VBox;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of the selection synchronization of the multi selection {@code listView()} and {@code checkBoxes()}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class SelectionSyncBenchmark {
+
+    @Param({"100", "10000"})
+    public int elementCount;
+
+    private final ListProperty<String> selectedListViewElements = new SimpleListProperty<>(FXCollections.observableArrayList());
+    private final ListProperty<String> selectedCheckBoxElements = new SimpleListProperty<>(FXCollections.observableArrayList());
+
+    private List<String> elements;
+
+    private GridForm gridForm;
+    private ListView<String> listView;
+    private VBox checkBoxes;
+
+    private int index;
+
+    @Setup
+    public void setup() {
+        FxPlatform.start();
+
+        elements = new ArrayList<>();
+        for (int i = 0; i < elementCount; i++) {
+            elements.add("Element " + i);
+        }
+
+        gridForm = new GridForm(new GridPane());
+        gridForm.row()
+                .label("ListView")
+                .listView(selectedListViewElements, elements)
+                .with(listView -> this.listView = listView);
+        gridForm.row()
+                .label("CheckBoxes")
+                .checkBoxes(selectedCheckBoxElements, elements)
+                .with(vBox -> this.checkBoxes = vBox);
+    }
+
+    @TearDown
+    public void tearDown() {
+        gridForm.dispose();
+    }
+
+    private int nextIndex() {
+        index = (index + 1) % elementCount;
+        return index;
+    }
+
+    @Benchmark
+    public int listViewModelSelectAllClearAll() {
+        selectedListViewElements.setAll(elements);
+        int selectedCount = listView.getSelectionModel().getSelectedIndices().size();
+        selectedListViewElements.clear();
+        return selectedCount;
+    }
+
+    @Benchmark
+    public int listViewControlSelectAllClearAll() {
+        listView.getSelectionModel().selectAll();
+        int selectedCount = selectedListViewElements.size();
+        listView.getSelectionModel().clearSelection();
+        return selectedCount;
+    }
+
+    @Benchmark
+    public boolean listViewModelToggleOne() {
+        String element = elements.get(nextIndex());
+        selectedListViewElements.add(element);
+        selectedListViewElements.remove(element);
+        return listView.getSelectionModel().isEmpty();
+    }
+
+    @Benchmark
+    public int checkBoxesModelSelectAllClearAll() {
+        selectedCheckBoxElements.setAll(elements);
+        selectedCheckBoxElements.clear();
+        return selectedCheckBoxElements.size();
+    }
+
+    @Benchmark
+    public int checkBoxesControlToggleOne() {
+        CheckBox checkBox = (CheckBox) checkBoxes.getChildren().get(nextIndex());
+        checkBox.setSelected(true);
+        int selectedCount = selectedCheckBoxElements.size();
+        checkBox.setSelected(false);
+        return selectedCount;
+    }
+}
@@ -0,0 +1,96 @@
+package ch.obermuhlner.javafx.gridform.benchmark;
+
+import ch.obermuhlner.javafx.gridform.GridForm;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.Property;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.scene.control.Slider;
+import javafx.scene.layout.GridPane;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the boxed {@code slider(Property<Number>, ...)} binding with the primitive {@code slider(DoubleProperty, ...)}
+ * and {@code slider(IntegerProperty, ...)} bindings for a stream of drag events.
+ *
+ * <p>Run with the GC profiler to see the allocation per drag event ({@code gc.alloc.rate.norm}):</p>
+ * <pre>
+ * ./gradlew :ch.obermuhlner.javafx.gridform.benchmark:jmh -PjmhInclude=SliderAllocation -PjmhProfilers=gc
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class SliderAllocationBenchmark {
+
+    private static final int VALUE_COUNT = 1024;
+
+    private final DoubleProperty boxedProperty = new SimpleDoubleProperty();
+    private final DoubleProperty doubleProperty = new SimpleDoubleProperty();
+    private final IntegerProperty integerProperty = new SimpleIntegerProperty();
+
+    private final double[] dragValues = new double[VALUE_COUNT];
+
+    private GridForm gridForm;
+    private Slider boxedSlider;
+    private Slider doubleSlider;
+    private Slider integerSlider;
+
+    private int index;
+
+    @Setup
+    public void setup() {
+        FxPlatform.start();
+
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            dragValues[i] = i * 0.37;
+        }
+
+        Property<Number> boxed = boxedProperty;
+
+        gridForm = new GridForm(new GridPane());
+        gridForm.row()
+                .label("Boxed")
+                .slider(boxed, 0, VALUE_COUNT)
+                .with(slider -> boxedSlider = slider);
+        gridForm.row()
+                .label("Double")
+                .slider(doubleProperty, 0, VALUE_COUNT)
+                .with(slider -> doubleSlider = slider);
+        gridForm.row()
+                .label("Integer")
+                .slider(integerProperty, 0, VALUE_COUNT)
+                .with(slider -> integerSlider = slider);
+    }
+
+    @TearDown
+    public void tearDown() {
+        gridForm.dispose();
+    }
+
+    private double nextDragValue() {
+        index = (index + 1) % VALUE_COUNT;
+        return dragValues[index];
+    }
+
+    @Benchmark
+    public double boxedDrag() {
+        boxedSlider.setValue(nextDragValue());
+        return boxedProperty.get();
+    }
+
+    @Benchmark
+    public double doubleDrag() {
+        doubleSlider.setValue(nextDragValue());
+        return doubleProperty.get();
+    }
+
+    @Benchmark
+    public int integerDrag() {
+        integerSlider.setValue(nextDragValue());
+        return integerProperty.get();
+    }
+}
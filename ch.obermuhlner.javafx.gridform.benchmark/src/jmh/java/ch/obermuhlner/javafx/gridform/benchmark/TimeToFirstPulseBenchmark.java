@@ -0,0 +1,87 @@
+package ch.obermuhlner.javafx.gridform.benchmark;
+
+import ch.obermuhlner.javafx.gridform.GridForm;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import javafx.scene.Scene;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.StackPane;
+import javafx.stage.Stage;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Measures the time from building a form in a showing scene until the following pulse has completed,
+ * attaching every node separately compared with attaching all nodes in a single {@link GridForm#batch} call.
+ *
+ * <p>The form is built and attached on the JavaFX application thread,
+ * the measured pulse includes the CSS and layout pass of the new nodes.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class TimeToFirstPulseBenchmark {
+
+    @Param({"100", "1000"})
+    public int rowCount;
+
+    private final StringProperty stringProperty = new SimpleStringProperty("Alpha");
+
+    private Stage stage;
+    private StackPane root;
+    private GridForm gridForm;
+
+    @Setup
+    public void setup() {
+        FxPlatform.start();
+        FxPlatform.runAndWait(() -> {
+            root = new StackPane();
+            stage = new Stage();
+            stage.setScene(new Scene(root, 800, 600));
+            stage.show();
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        FxPlatform.runAndWait(() -> stage.hide());
+    }
+
+    @TearDown(Level.Invocation)
+    public void dispose() {
+        FxPlatform.runAndWait(() -> {
+            root.getChildren().clear();
+            gridForm.dispose();
+        });
+    }
+
+    @Benchmark
+    public GridPane perNode() {
+        return buildUntilPulse(this::buildRows);
+    }
+
+    @Benchmark
+    public GridPane batch() {
+        return buildUntilPulse(form -> form.batch(this::buildRows));
+    }
+
+    private GridPane buildUntilPulse(Consumer<GridForm> builder) {
+        FxPlatform.runAndWaitForPulse(() -> {
+            GridPane gridPane = new GridPane();
+            root.getChildren().add(gridPane);
+            gridForm = new GridForm(gridPane);
+            builder.accept(gridForm);
+        });
+        return gridForm.getGridPane();
+    }
+
+    private void buildRows(GridForm form) {
+        for (int i = 0; i < rowCount; i++) {
+            form.row()
+                    .label("Row " + i)
+                    .textField(stringProperty);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package ch.obermuhlner.javafx.gridform;
+
+import javafx.util.Duration;
+
+/**
+ * Specifies when the text typed into a text field is parsed and written to the bound property.
+ *
+ * <p>Until the text is committed the edits are buffered in the control,
+ * so the property (and all its listeners) is updated once instead of on every typed character.
+ * Changes of the property are always shown in the control immediately.</p>
+ *
+ * @see RowBuilder#textField(javafx.beans.property.Property, java.text.Format, CommitPolicy)
+ */
+public final class CommitPolicy {
+
+    /**
+     * Commits every change of the text immediately.
+     */
+    public static final CommitPolicy IMMEDIATE = new CommitPolicy(false, false, null);
+
+    /**
+     * Commits the text when the user presses Enter.
+     */
+    public static final CommitPolicy ON_ENTER = new CommitPolicy(true, false, null);
+
+    /**
+     * Commits the text when the control loses the focus.
+     */
+    public static final CommitPolicy ON_FOCUS_LOST = new CommitPolicy(false, true, null);
+
+    /**
+     * Commits the text when the user presses Enter or the control loses the focus.
+     */
+    public static final CommitPolicy ON_ENTER_OR_FOCUS_LOST = new CommitPolicy(true, true, null);
+
+    final boolean onEnter;
+    final boolean onFocusLost;
+    final Duration idleDelay;
+
+    private CommitPolicy(boolean onEnter, boolean onFocusLost, Duration idleDelay) {
+        this.onEnter = onEnter;
+        this.onFocusLost = onFocusLost;
+        this.idleDelay = idleDelay;
+    }
+
+    /**
+     * Commits the text when it was not changed for the specified delay, when the user presses Enter or the control loses the focus.
+     *
+     * @param idleDelay the delay after the last change of the text
+     * @return the commit policy
+     */
+    public static CommitPolicy onIdle(Duration idleDelay) {
+        return new CommitPolicy(true, true, idleDelay);
+    }
+
+    boolean isImmediate() {
+        return !onEnter && !onFocusLost && idleDelay == null;
+    }
+
+    @Override
+    public String toString() {
+        return "CommitPolicy{" +
+                "onEnter=" + onEnter +
+                ", onFocusLost=" + onFocusLost +
+                ", idleDelay=" + idleDelay +
+                '}';
+    }
+}
@@ -0,0 +1,126 @@
+package ch.obermuhlner.javafx.gridform;
+
+import javafx.collections.FXCollections;
+import javafx.scene.control.ComboBox;
+import javafx.scene.control.ComboBoxBase;
+import javafx.scene.control.Control;
+import javafx.scene.control.TextInputControl;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.Region;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Pool of controls that can be shared by several {@link GridForm}s to recycle expensive controls across form rebuilds.
+ *
+ * <p>A form that uses a pool (see {@link GridForm#setControlPool(ControlPool)}) draws its
+ * {@code TextField}, {@code PasswordField}, {@code TextArea}, {@code ComboBox}, {@code DatePicker} and {@code ColorPicker} controls from the pool
+ * and returns them when the form is cleared or disposed.
+ * The bindings of the form are released before the controls are returned,
+ * then the value, the grid constraints and the state changed by the {@link RowBuilder} methods are reset.</p>
+ *
+ * <p>Customizations applied with {@link RowBuilder.NodeRowBuilder#with(java.util.function.Consumer)} beyond this state are not reset,
+ * forms that share a pool should therefore apply the same customizations to the pooled controls.</p>
+ */
+public class ControlPool {
+
+    private final int maxPooledControlsPerType;
+
+    private final Map<Class<?>, Deque<Control>> pooledControls = new HashMap<>();
+
+    private long hitCount;
+    private long missCount;
+
+    public ControlPool() {
+        this(100);
+    }
+
+    public ControlPool(int maxPooledControlsPerType) {
+        this.maxPooledControlsPerType = maxPooledControlsPerType;
+    }
+
+    <T extends Control> T acquire(Class<T> type, Supplier<T> factory) {
+        Deque<Control> controls = pooledControls.get(type);
+        if (controls != null && !controls.isEmpty()) {
+            hitCount++;
+            return type.cast(controls.pop());
+        }
+
+        missCount++;
+        return factory.get();
+    }
+
+    @SuppressWarnings("unchecked")
+    void release(Control control) {
+        GridPane.clearConstraints(control);
+        control.setMaxWidth(Region.USE_COMPUTED_SIZE);
+        control.setMaxHeight(Region.USE_COMPUTED_SIZE);
+        control.setDisable(false);
+        control.setVisible(true);
+        control.setManaged(true);
+
+        if (control instanceof TextInputControl) {
+            ((TextInputControl) control).clear();
+        }
+        if (control instanceof ComboBox) {
+            ((ComboBox<Object>) control).setItems(FXCollections.observableArrayList());
+        }
+        if (control instanceof ComboBoxBase) {
+            ((ComboBoxBase<Object>) control).setValue(null);
+        }
+
+        Deque<Control> controls = pooledControls.computeIfAbsent(control.getClass(), type -> new ArrayDeque<>());
+        if (controls.size() < maxPooledControlsPerType) {
+            controls.push(control);
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Returns the fraction of the acquired controls that were recycled from the pool.
+     *
+     * @return the hit rate between 0.0 and 1.0, or 0.0 if no control was acquired yet
+     */
+    public double getHitRate() {
+        long total = hitCount + missCount;
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    public int getPooledControlCount() {
+        int count = 0;
+        for (Deque<Control> controls : pooledControls.values()) {
+            count += controls.size();
+        }
+        return count;
+    }
+
+    public void resetStatistics() {
+        hitCount = 0;
+        missCount = 0;
+    }
+
+    public void clear() {
+        pooledControls.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "ControlPool{" +
+                "hits=" + hitCount +
+                ", misses=" + missCount +
+                ", hitRate=" + getHitRate() +
+                ", pooled=" + getPooledControlCount() +
+                '}';
+    }
+}
@@ -0,0 +1,229 @@
+package ch.obermuhlner.javafx.gridform;
+
+import javafx.beans.property.*;
+import javafx.beans.value.ObservableBooleanValue;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.Node;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.Region;
+import javafx.scene.paint.Color;
+
+import java.text.Format;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Reusable description of a form that can be instantiated many times against different models.
+ *
+ * <p>The rows are described once with the same fluent API as {@link GridForm#row()},
+ * but instead of properties the cells receive functions that return the properties of the model.</p>
+ *
+ * <pre>
+ * FormTemplate&lt;Person&gt; template = new FormTemplate&lt;&gt;();
+ * template.row()
+ *         .label("Name")
+ *         .textField(Person::nameProperty);
+ * template.row()
+ *         .label("Gender")
+ *         .comboBox(Person::genderProperty, Gender.values());
+ *
+ * template.instantiate(gridForm, person);
+ * </pre>
+ *
+ * <p>The template is compiled into a list of cell descriptors.
+ * Element lists (for example of a combo box) are copied into a shared unmodifiable list once
+ * when the template is described, instead of every time the form is built.</p>
+ *
+ * @param <M> the type of the model
+ */
+public class FormTemplate<M> {
+
+    private final List<List<CellTemplate<M>>> rows = new ArrayList<>();
+
+    public RowTemplate<M> row() {
+        List<CellTemplate<M>> cells = new ArrayList<>();
+        rows.add(cells);
+        return new RowTemplate<>(cells);
+    }
+
+    public void emptyRow() {
+        row().label("");
+    }
+
+    /**
+     * Builds the rows described by this template in the specified form, bound to the properties of the specified model.
+     *
+     * @param gridForm the form to build the rows in
+     * @param model the model to bind the rows to
+     */
+    public void instantiate(GridForm gridForm, M model) {
+        for (List<CellTemplate<M>> cells : rows) {
+            RowBuilder rowBuilder = gridForm.row();
+            for (CellTemplate<M> cell : cells) {
+                rowBuilder = cell.build(rowBuilder, model);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface CellTemplate<M> {
+        RowBuilder build(RowBuilder rowBuilder, M model);
+    }
+
+    public static class RowTemplate<M> {
+        private final List<CellTemplate<M>> cells;
+
+        RowTemplate(List<CellTemplate<M>> cells) {
+            this.cells = cells;
+        }
+
+        private RowTemplate<M> cell(CellTemplate<M> cell) {
+            cells.add(cell);
+            return this;
+        }
+
+        private static <T> ObservableList<T> sharedList(List<T> elements) {
+            return FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(elements));
+        }
+
+        private static <T> ListProperty<T> listProperty(ObservableList<T> items) {
+            return new SimpleListProperty<>(items);
+        }
+
+        public RowTemplate<M> empty() {
+            return cell((row, model) -> row.empty());
+        }
+
+        public RowTemplate<M> visibleWhen(Function<M, ? extends ObservableBooleanValue> condition) {
+            return cell((row, model) -> row.visibleWhen(condition.apply(model)));
+        }
+
+        public RowTemplate<M> label(String text) {
+            return cell((row, model) -> row.label(text));
+        }
+
+        public RowTemplate<M> label(Function<M, StringProperty> textProperty) {
+            return cell((row, model) -> row.label(textProperty.apply(model)));
+        }
+
+        public <T> RowTemplate<M> label(Function<M, ? extends Property<T>> textProperty, Format format) {
+            return cell((row, model) -> row.label(textProperty.apply(model), format));
+        }
+
+        public RowTemplate<M> textField(Function<M, StringProperty> textProperty) {
+            return cell((row, model) -> row.textField(textProperty.apply(model)));
+        }
+
+        public <T> RowTemplate<M> textField(Function<M, ? extends Property<T>> textProperty, Format format) {
+            return cell((row, model) -> row.textField(textProperty.apply(model), format));
+        }
+
+        public RowTemplate<M> passwordField(Function<M, StringProperty> textProperty) {
+            return cell((row, model) -> row.passwordField(textProperty.apply(model)));
+        }
+
+        public <T> RowTemplate<M> passwordField(Function<M, ? extends Property<T>> textProperty, Format format) {
+            return cell((row, model) -> row.passwordField(textProperty.apply(model), format));
+        }
+
+        public RowTemplate<M> textArea(Function<M, StringProperty> textProperty) {
+            return cell((row, model) -> row.textArea(textProperty.apply(model)));
+        }
+
+        public RowTemplate<M> slider(Function<M, ? extends Property<Number>> valueProperty, double min, double max) {
+            return cell((row, model) -> row.slider(valueProperty.apply(model), min, max));
+        }
+
+        public RowTemplate<M> checkBox(String text, Function<M, BooleanProperty> booleanProperty) {
+            return cell((row, model) -> row.checkBox(text, booleanProperty.apply(model)));
+        }
+
+        public <T> RowTemplate<M> comboBox(Function<M, ? extends Property<T>> selectedElementProperty, T... elements) {
+            return comboBox(selectedElementProperty, Arrays.asList(elements));
+        }
+
+        public <T> RowTemplate<M> comboBox(Function<M, ? extends Property<T>> selectedElementProperty, List<T> elements) {
+            ObservableList<T> items = sharedList(elements);
+            return cell((row, model) -> row.comboBox(selectedElementProperty.apply(model), listProperty(items)));
+        }
+
+        public <T> RowTemplate<M> choiceBox(Function<M, ? extends Property<T>> selectedElementProperty, T... elements) {
+            return choiceBox(selectedElementProperty, Arrays.asList(elements));
+        }
+
+        public <T> RowTemplate<M> choiceBox(Function<M, ? extends Property<T>> selectedElementProperty, List<T> elements) {
+            ObservableList<T> items = sharedList(elements);
+            return cell((row, model) -> row.choiceBox(selectedElementProperty.apply(model), listProperty(items)));
+        }
+
+        public <T> RowTemplate<M> listView(Function<M, ? extends Property<T>> selectedElementProperty, T... elements) {
+            return listView(selectedElementProperty, Arrays.asList(elements));
+        }
+
+        public <T> RowTemplate<M> listView(Function<M, ? extends Property<T>> selectedElementProperty, List<T> elements) {
+            ObservableList<T> items = sharedList(elements);
+            return cell((row, model) -> row.listView(selectedElementProperty.apply(model), listProperty(items)));
+        }
+
+        public <T> RowTemplate<M> radioButtons(Function<M, ? extends Property<T>> selectedElementProperty, T... elements) {
+            return radioButtons(selectedElementProperty, Arrays.asList(elements));
+        }
+
+        public <T> RowTemplate<M> radioButtons(Function<M, ? extends Property<T>> selectedElementProperty, List<T> elements) {
+            List<T> elementList = Collections.unmodifiableList(new ArrayList<>(elements));
+            return cell((row, model) -> row.radioButtons(selectedElementProperty.apply(model), elementList));
+        }
+
+        public <T> RowTemplate<M> checkBoxes(Function<M, ListProperty<T>> selectedElementsProperty, T... elements) {
+            return checkBoxes(selectedElementsProperty, Arrays.asList(elements));
+        }
+
+        public <T> RowTemplate<M> checkBoxes(Function<M, ListProperty<T>> selectedElementsProperty, List<T> elements) {
+            List<T> elementList = Collections.unmodifiableList(new ArrayList<>(elements));
+            return cell((row, model) -> row.checkBoxes(selectedElementsProperty.apply(model), elementList));
+        }
+
+        public RowTemplate<M> datePicker(Function<M, ObjectProperty<LocalDate>> dateProperty) {
+            return cell((row, model) -> row.datePicker(dateProperty.apply(model)));
+        }
+
+        public RowTemplate<M> colorPicker(Function<M, ObjectProperty<Color>> colorProperty) {
+            return cell((row, model) -> row.colorPicker(colorProperty.apply(model)));
+        }
+
+        /**
+         * Applies the specified function to the node of the last cell every time the template is instantiated.
+         *
+         * @throws IllegalStateException if the row has no cell yet
+         */
+        public RowTemplate<M> with(Consumer<Node> nodeFunction) {
+            if (cells.isEmpty()) {
+                throw new IllegalStateException("Cannot apply with() to a row without cells");
+            }
+
+            CellTemplate<M> lastCell = cells.remove(cells.size() - 1);
+            return cell((row, model) -> {
+                RowBuilder rowBuilder = lastCell.build(row, model);
+                if (rowBuilder instanceof RowBuilder.NodeRowBuilder) {
+                    nodeFunction.accept(((RowBuilder.NodeRowBuilder<?>) rowBuilder).node);
+                }
+                return rowBuilder;
+            });
+        }
+
+        public RowTemplate<M> fillWidth() {
+            return with(node -> {
+                if (node instanceof Region) {
+                    GridPane.setFillWidth(node, true);
+                    ((Region) node).setMaxWidth(Double.MAX_VALUE);
+                }
+            });
+        }
+    }
+}
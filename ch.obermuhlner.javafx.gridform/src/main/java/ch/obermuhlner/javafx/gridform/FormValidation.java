@@ -0,0 +1,183 @@
+package ch.obermuhlner.javafx.gridform;
+
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.beans.value.ObservableValue;
+import javafx.css.PseudoClass;
+import javafx.scene.control.Control;
+import javafx.scene.control.Tooltip;
+import javafx.util.Duration;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Validation of the fields of a form.
+ *
+ * <p>Every change of a field value restarts the debounce delay of the field.
+ * When the delay has passed the validator runs on the executor,
+ * runs that were superseded by a newer value are skipped if they did not start yet and their result is dropped if they did.
+ * The result is applied to the control on the JavaFX application thread:
+ * the pseudo class {@code :invalid} is set and the error message is shown as tooltip,
+ * replacing the tooltip of the control until the value is valid again.
+ * A validator that throws an exception marks the field as invalid with the message of the exception.</p>
+ *
+ * <p>The form is valid if no field is invalid or waiting for its validation.
+ * Both are counted when the state of a field changes, so the validity of the form never iterates over the fields.</p>
+ */
+class FormValidation {
+    static final PseudoClass INVALID = PseudoClass.getPseudoClass("invalid");
+
+    private final ReadOnlyBooleanWrapper valid = new ReadOnlyBooleanWrapper(true);
+
+    private Executor executor = ForkJoinPool.commonPool();
+    private Duration delay = Duration.millis(300);
+
+    private int invalidCount;
+    private int pendingCount;
+
+    ReadOnlyBooleanProperty validProperty() {
+        return valid.getReadOnlyProperty();
+    }
+
+    Executor getExecutor() {
+        return executor;
+    }
+
+    void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    Duration getDelay() {
+        return delay;
+    }
+
+    void setDelay(Duration delay) {
+        this.delay = delay;
+    }
+
+    <V> void add(GridForm gridForm, Control control, ObservableValue<V> value, Validator<? super V> validator) {
+        Field<V> field = new Field<>(control, value, validator);
+        gridForm.addInvalidationListener(value, observable -> field.schedule());
+        gridForm.addDisposer(field::dispose);
+
+        field.validate();
+    }
+
+    private void update(int invalidDelta, int pendingDelta) {
+        invalidCount += invalidDelta;
+        pendingCount += pendingDelta;
+        valid.set(invalidCount == 0 && pendingCount == 0);
+    }
+
+    private class Field<V> {
+        private final Control control;
+        private final ObservableValue<V> value;
+        private final Validator<? super V> validator;
+
+        private final PauseTransition debounce = new PauseTransition();
+
+        private Tooltip tooltip;
+        private Tooltip originalTooltip;
+
+        private volatile int generation;
+        private boolean pending;
+        private boolean invalid;
+
+        Field(Control control, ObservableValue<V> value, Validator<? super V> validator) {
+            this.control = control;
+            this.value = value;
+            this.validator = validator;
+
+            debounce.setOnFinished(event -> validate());
+        }
+
+        void schedule() {
+            generation++;
+            setPending(true);
+            debounce.setDuration(delay);
+            debounce.playFromStart();
+        }
+
+        void validate() {
+            int validationGeneration = ++generation;
+            setPending(true);
+            V currentValue = value.getValue();
+
+            try {
+                executor.execute(() -> {
+                    if (validationGeneration != generation) {
+                        return;
+                    }
+
+                    String message;
+                    try {
+                        message = validator.validate(currentValue);
+                    } catch (RuntimeException e) {
+                        message = failureMessage(e);
+                    }
+
+                    String finalMessage = message;
+                    Platform.runLater(() -> {
+                        if (validationGeneration == generation) {
+                            apply(finalMessage);
+                        }
+                    });
+                });
+            } catch (RuntimeException e) {
+                apply(failureMessage(e));
+            }
+        }
+
+        private String failureMessage(RuntimeException e) {
+            return e.getMessage() == null ? e.toString() : e.getMessage();
+        }
+
+        void dispose() {
+            generation++;
+            debounce.stop();
+            setPending(false);
+            showMessage(null);
+        }
+
+        private void apply(String message) {
+            setPending(false);
+            showMessage(message);
+        }
+
+        private void showMessage(String message) {
+            setInvalid(message != null);
+
+            control.pseudoClassStateChanged(INVALID, message != null);
+            if (message != null) {
+                if (tooltip == null) {
+                    tooltip = new Tooltip();
+                }
+                tooltip.setText(message);
+                if (control.getTooltip() != tooltip) {
+                    originalTooltip = control.getTooltip();
+                    control.setTooltip(tooltip);
+                }
+            } else if (tooltip != null && control.getTooltip() == tooltip) {
+                control.setTooltip(originalTooltip);
+                originalTooltip = null;
+            }
+        }
+
+        private void setPending(boolean pending) {
+            if (this.pending != pending) {
+                this.pending = pending;
+                update(0, pending ? 1 : -1);
+            }
+        }
+
+        private void setInvalid(boolean invalid) {
+            if (this.invalid != invalid) {
+                this.invalid = invalid;
+                update(invalid ? 1 : -1, 0);
+            }
+        }
+    }
+}
@@ -1,9 +1,41 @@
 package ch.obermuhlner.javafx.gridform;
 
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.beans.WeakInvalidationListener;
+import javafx.beans.binding.Bindings;
+import javafx.beans.property.Property;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.StringProperty;
+import javafx.beans.value.ObservableBooleanValue;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.beans.value.WeakChangeListener;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.WeakListChangeListener;
+import javafx.event.ActionEvent;
+import javafx.event.EventHandler;
+import javafx.scene.Node;
 import javafx.scene.control.*;
 import javafx.scene.layout.GridPane;
+import javafx.util.Duration;
 
 import java.text.DecimalFormat;
+import java.text.Format;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 public class GridForm {
     public static final DecimalFormat INTEGER_FORMAT = new DecimalFormat("#0");
@@ -11,23 +43,801 @@ public class GridForm {
 
     private final GridPane gridPane;
 
-    private int rowIndex = 0;
+    private final List<Row> rows = new ArrayList<>();
+    private Row currentRow;
+
+    private int batchDepth = 0;
+    private final List<Node> batchNodes = new ArrayList<>();
+
+    private final List<Runnable> disposers = new ArrayList<>();
+
+    private boolean weakListeners = false;
+    private final List<Object> retainedListeners = new ArrayList<>();
+
+    private PulseCoalescer pulseCoalescer;
+    private PulseCoalescer visibilityCoalescer;
+
+    private ControlPool controlPool;
+    private final List<Control> pooledControls = new ArrayList<>();
+
+    private GridFormMetrics metrics;
+
+    private List<Runnable> pendingActivations;
+
+    private final FormValidation validation;
 
     public GridForm(GridPane gridPane) {
+        this(gridPane, new FormValidation());
+    }
+
+    private GridForm(GridPane gridPane, FormValidation validation) {
         this.gridPane = gridPane;
+        this.validation = validation;
+    }
+
+    private GridForm(GridPane gridPane, GridForm parent) {
+        this(gridPane, parent.validation);
+
+        setWeakListeners(parent.weakListeners);
+        pulseCoalescer = parent.pulseCoalescer;
+        controlPool = parent.controlPool;
+        metrics = parent.metrics;
+    }
+
+    public GridPane getGridPane() {
+        return gridPane;
+    }
+
+    /**
+     * Specifies whether the listeners registered by the rows built after this call are weak.
+     *
+     * <p>Weak listeners are wrapped in {@link WeakChangeListener} and {@link WeakListChangeListener}
+     * and are only kept alive by the {@link GridPane} of this form.
+     * A form that is dropped from the scene graph becomes garbage collectable automatically,
+     * even if the model properties live much longer and {@link #dispose()} is never called.</p>
+     *
+     * <p>The bidirectional bindings created by the rows are always weak.</p>
+     *
+     * @param weakListeners {@code true} to register weak listeners
+     */
+    public void setWeakListeners(boolean weakListeners) {
+        this.weakListeners = weakListeners;
+        if (weakListeners) {
+            gridPane.getProperties().put(this, retainedListeners);
+        }
+    }
+
+    public boolean isWeakListeners() {
+        return weakListeners;
+    }
+
+    /**
+     * Specifies whether the labels bound to properties in the rows built after this call are updated at most once per pulse.
+     *
+     * <p>A coalesced label does not reformat and relayout on every change of its property,
+     * instead it applies only the latest value once per JavaFX pulse.
+     * This keeps the cost on the JavaFX application thread flat for properties that change thousands of times per second.</p>
+     *
+     * @param pulseCoalescing {@code true} to coalesce the label updates
+     */
+    public void setPulseCoalescing(boolean pulseCoalescing) {
+        if (pulseCoalescing && pulseCoalescer == null) {
+            pulseCoalescer = new PulseCoalescer();
+        } else if (!pulseCoalescing) {
+            pulseCoalescer = null;
+        }
+    }
+
+    public boolean isPulseCoalescing() {
+        return pulseCoalescer != null;
+    }
+
+    /**
+     * Specifies the pool that the rows built after this call draw their controls from.
+     *
+     * <p>The pooled controls are returned to the pool when the form is cleared or disposed.</p>
+     *
+     * @param controlPool the pool, or {@code null} to create new controls
+     */
+    public void setControlPool(ControlPool controlPool) {
+        this.controlPool = controlPool;
+    }
+
+    public ControlPool getControlPool() {
+        return controlPool;
+    }
+
+    /**
+     * Specifies the metrics that the rows built after this call are measured with.
+     *
+     * @param metrics the metrics, or {@code null} to measure nothing
+     */
+    public void setMetrics(GridFormMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    public GridFormMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Specifies the executor that the validators of this form run on.
+     *
+     * <p>The default executor is the {@link java.util.concurrent.ForkJoinPool#commonPool()}.</p>
+     *
+     * @param executor the executor of the validators
+     */
+    public void setValidationExecutor(Executor executor) {
+        validation.setExecutor(executor);
+    }
+
+    public Executor getValidationExecutor() {
+        return validation.getExecutor();
+    }
+
+    /**
+     * Specifies how long a field value must be unchanged before its validator runs.
+     *
+     * <p>The default delay is 300 milliseconds.</p>
+     *
+     * @param delay the debounce delay of the validation
+     */
+    public void setValidationDelay(Duration delay) {
+        validation.setDelay(delay);
+    }
+
+    public Duration getValidationDelay() {
+        return validation.getDelay();
+    }
+
+    /**
+     * Returns whether all validated fields of this form (including its sections) are valid.
+     *
+     * <p>The form is not valid while a field is waiting for its validation.</p>
+     *
+     * @return the valid property
+     * @see RowBuilder.ControlRowBuilder#validate(ObservableValue, Validator)
+     */
+    public ReadOnlyBooleanProperty validProperty() {
+        return validation.validProperty();
+    }
+
+    public boolean isValid() {
+        return validation.validProperty().get();
+    }
+
+    <V> void validate(Control control, ObservableValue<V> value, Validator<? super V> validator) {
+        if (deferred(() -> validate(control, value, validator))) {
+            return;
+        }
+
+        validation.add(this, control, value, validator);
+    }
+
+    GridFormMetrics.Measurement beginFactory(String method) {
+        return metrics == null ? null : metrics.beginFactory(method);
+    }
+
+    GridFormMetrics.Measurement beginSelectionSync(String method) {
+        return metrics == null ? null : metrics.beginSelectionSync(method);
+    }
+
+    void end(GridFormMetrics.Measurement measurement) {
+        if (measurement != null) {
+            measurement.end();
+        }
+    }
+
+    <B> B end(GridFormMetrics.Measurement measurement, B result) {
+        end(measurement);
+        return result;
+    }
+
+    <T extends Control> T acquire(Class<T> type, Supplier<T> factory) {
+        if (controlPool == null) {
+            return factory.get();
+        }
+
+        T control = controlPool.acquire(type, factory);
+        pooledControls.add(control);
+        return control;
+    }
+
+    /**
+     * Runs the update immediately and again once per pulse whenever the observable is invalidated.
+     */
+    void bindCoalesced(Observable observable, Runnable update) {
+        if (deferred(() -> bindCoalesced(observable, update))) {
+            return;
+        }
+
+        update.run();
+
+        PulseCoalescer coalescer = pulseCoalescer;
+        addInvalidationListener(observable, it -> coalescer.schedule(update));
+    }
+
+    /**
+     * Shows the nodes of the row only while the condition is {@code true}.
+     *
+     * <p>The condition is read again only after it was invalidated,
+     * and the visibility changes of all rows are applied together once per pulse.</p>
+     */
+    void bindRowVisibility(Row row, ObservableBooleanValue condition) {
+        inRow(row, () -> activate(() -> {
+            row.visibleCondition = condition;
+            row.setVisible(condition.get());
+
+            if (visibilityCoalescer == null) {
+                visibilityCoalescer = new PulseCoalescer();
+            }
+            PulseCoalescer coalescer = visibilityCoalescer;
+            Runnable update = row::updateVisibility;
+            addInvalidationListener(condition, it -> coalescer.schedule(update));
+            addDisposer(() -> row.visibleCondition = null);
+        }));
     }
 
     public RowBuilder row() {
-        return new RowBuilder(gridPane, rowIndex++, 0);
+        return insertRow(rows.size());
+    }
+
+    /**
+     * Returns the number of rows of this form.
+     */
+    public int getRowCount() {
+        return rows.size();
+    }
+
+    /**
+     * Inserts a new row at the specified index, the following rows move down by one.
+     *
+     * <p>Only the grid constraints of the nodes in the following rows are updated.</p>
+     *
+     * @param index the index of the new row, between 0 and {@link #getRowCount()}
+     * @return the builder of the new row
+     */
+    public RowBuilder insertRow(int index) {
+        if (index < 0 || index > rows.size()) {
+            throw new IndexOutOfBoundsException("Row index: " + index + ", row count: " + rows.size());
+        }
+
+        if (metrics != null) {
+            metrics.rowCreated();
+        }
+
+        Row row = new Row(index);
+        rows.add(index, row);
+        currentRow = row;
+        updateRowIndexes(index + 1, rows.size());
+
+        return new RowBuilder(this, row, 0);
+    }
+
+    /**
+     * Removes the row at the specified index together with its nodes, the following rows move up by one.
+     *
+     * <p>The bindings, listeners and validations registered by the row are released
+     * and its pooled controls are returned to the {@link ControlPool}.
+     * The nodes are removed from the {@link GridPane} in a single change
+     * and only the grid constraints of the nodes in the following rows are updated.</p>
+     *
+     * @param index the index of the row to remove
+     */
+    public void removeRow(int index) {
+        Row row = rows.remove(index);
+        if (currentRow == row) {
+            currentRow = null;
+        }
+
+        row.dispose();
+        if (!row.retainedListeners.isEmpty()) {
+            Set<Object> listeners = Collections.newSetFromMap(new IdentityHashMap<>());
+            listeners.addAll(row.retainedListeners);
+            retainedListeners.removeIf(listeners::contains);
+            row.retainedListeners.clear();
+        }
+
+        if (!row.nodes.isEmpty()) {
+            Set<Node> nodes = new HashSet<>(row.nodes);
+            gridPane.getChildren().removeAll(nodes);
+            batchNodes.removeAll(nodes);
+
+            if (controlPool != null) {
+                for (Node node : row.nodes) {
+                    if (node instanceof Control && pooledControls.remove(node)) {
+                        controlPool.release((Control) node);
+                    }
+                }
+            }
+        }
+
+        updateRowIndexes(index, rows.size());
+    }
+
+    /**
+     * Moves the row at the specified index to another index, the rows in between move by one.
+     *
+     * <p>Only the grid constraints of the nodes in the rows between the two indexes are updated,
+     * the children of the {@link GridPane} are not changed.</p>
+     *
+     * @param fromIndex the index of the row to move
+     * @param toIndex the new index of the row
+     */
+    public void moveRow(int fromIndex, int toIndex) {
+        if (toIndex < 0 || toIndex >= rows.size()) {
+            throw new IndexOutOfBoundsException("Row index: " + toIndex + ", row count: " + rows.size());
+        }
+
+        Row row = rows.remove(fromIndex);
+        rows.add(toIndex, row);
+        updateRowIndexes(Math.min(fromIndex, toIndex), Math.max(fromIndex, toIndex) + 1);
+    }
+
+    private void updateRowIndexes(int fromIndex, int toIndex) {
+        for (int i = fromIndex; i < toIndex; i++) {
+            Row row = rows.get(i);
+            if (row.index != i) {
+                row.index = i;
+                for (Node node : row.nodes) {
+                    GridPane.setRowIndex(node, i);
+                }
+            }
+        }
     }
 
     public void emptyRow() {
         row().label("");
     }
 
-    private void addLeftLabel(String label) {
-        if (label != null) {
-            gridPane.add(new Label(label), 0, rowIndex);
+    /**
+     * Adds a collapsible section that builds its rows lazily.
+     *
+     * <p>The header of the section is shown immediately, but the form function
+     * (and therefore the creation of the controls and their bindings) runs only when the section is expanded for the first time.</p>
+     *
+     * <p>The rows of the section are built by a nested {@link GridForm} that inherits the settings of this form
+     * and is disposed together with this form.</p>
+     *
+     * @param title the title of the section
+     * @param formFunction the function that builds the rows of the section
+     * @return the builder of the row containing the section
+     */
+    public RowBuilder.NodeRowBuilder<TitledPane> section(String title, Consumer<GridForm> formFunction) {
+        TitledPane titledPane = new TitledPane();
+        titledPane.setText(title);
+        titledPane.setExpanded(false);
+        titledPane.setMaxWidth(Double.MAX_VALUE);
+
+        RowBuilder.NodeRowBuilder<TitledPane> rowBuilder = row().node(titledPane, GridPane.REMAINING, 1);
+        Row sectionRow = rowBuilder.row;
+
+        titledPane.expandedProperty().addListener(new ChangeListener<Boolean>() {
+            @Override
+            public void changed(ObservableValue<? extends Boolean> observable, Boolean oldValue, Boolean newValue) {
+                if (newValue) {
+                    observable.removeListener(this);
+
+                    GridPane sectionGridPane = new GridPane();
+                    sectionGridPane.setHgap(gridPane.getHgap());
+                    sectionGridPane.setVgap(gridPane.getVgap());
+
+                    GridForm sectionForm = new GridForm(sectionGridPane, GridForm.this);
+                    inRow(sectionRow, () -> addDisposer(sectionForm::dispose));
+
+                    formFunction.accept(sectionForm);
+                    titledPane.setContent(sectionGridPane);
+                }
+            }
+        });
+
+        return rowBuilder;
+    }
+
+    /**
+     * Builds rows on a background thread and appends them to this form on the JavaFX application thread.
+     *
+     * <p>The form function runs on the specified executor and builds its controls into a detached {@link GridPane},
+     * which JavaFX allows outside of the JavaFX application thread.
+     * The model properties are only read there: bindings, listeners and writes to the model are recorded
+     * and activated on the JavaFX application thread, when the built nodes are attached to this form in a single change.
+     * The user interface stays responsive while a large form is built.</p>
+     *
+     * <p>The rows built asynchronously do not draw controls from the {@link ControlPool}.
+     * This method must be called on the JavaFX application thread,
+     * and the model properties must not be modified by other threads until the returned future completes.</p>
+     *
+     * @param executor the executor to build the rows on
+     * @param formFunction the function that builds the rows
+     * @return the future that completes with this form on the JavaFX application thread, after the rows are attached
+     */
+    public CompletableFuture<GridForm> buildAsync(Executor executor, Consumer<GridForm> formFunction) {
+        GridPane detachedGridPane = new GridPane();
+        GridForm detachedForm = new GridForm(detachedGridPane, this);
+        detachedForm.controlPool = null;
+        detachedForm.pendingActivations = new ArrayList<>();
+        disposers.add(detachedForm::dispose);
+
+        return CompletableFuture
+                .runAsync(() -> formFunction.accept(detachedForm), executor)
+                .thenApplyAsync(ignored -> {
+                    attach(detachedForm);
+                    return this;
+                }, Platform::runLater);
+    }
+
+    private void attach(GridForm detachedForm) {
+        List<Node> nodes = new ArrayList<>(detachedForm.gridPane.getChildren());
+        detachedForm.gridPane.getChildren().clear();
+
+        int rowOffset = rows.size();
+        rows.addAll(detachedForm.rows);
+        detachedForm.rows.clear();
+        updateRowIndexes(rowOffset, rows.size());
+
+        if (batchDepth > 0) {
+            batchNodes.addAll(nodes);
+        } else {
+            gridPane.getChildren().addAll(nodes);
+        }
+
+        List<Runnable> activations = detachedForm.pendingActivations;
+        detachedForm.pendingActivations = null;
+        for (Runnable activation : activations) {
+            activation.run();
+        }
+    }
+
+    /**
+     * Builds several rows in a single batch.
+     *
+     * <p>The nodes created inside the batch are collected together with their grid constraints
+     * and attached to the {@link GridPane} with a single {@code getChildren().addAll()} at the end of the batch,
+     * so that children change notification, CSS and layout invalidation happen only once.</p>
+     *
+     * <p>Batches can be nested, the nodes are attached at the end of the outermost batch.</p>
+     *
+     * @param formFunction the function that builds the rows
+     */
+    public void batch(Consumer<GridForm> formFunction) {
+        batchDepth++;
+        try {
+            formFunction.accept(this);
+        } finally {
+            batchDepth--;
+            if (batchDepth == 0 && !batchNodes.isEmpty()) {
+                gridPane.getChildren().addAll(batchNodes);
+                batchNodes.clear();
+            }
+        }
+    }
+
+    /**
+     * Releases all bindings and listeners that this form has registered.
+     *
+     * <p>The controls of a disposed form are no longer synchronized with the model properties
+     * and are no longer reachable from them, so a form that is rebuilt many times against the same model does not leak.</p>
+     *
+     * <p>If the form uses a {@link ControlPool} the pooled controls are removed from the form and returned to the pool.</p>
+     */
+    public void dispose() {
+        for (int i = rows.size() - 1; i >= 0; i--) {
+            rows.get(i).dispose();
+        }
+        for (int i = disposers.size() - 1; i >= 0; i--) {
+            disposers.get(i).run();
+        }
+        disposers.clear();
+        retainedListeners.clear();
+
+        releasePooledControls();
+    }
+
+    /**
+     * Disposes this form and removes all rows, so that the form can be built again from the first row.
+     */
+    public void clear() {
+        dispose();
+
+        gridPane.getChildren().clear();
+        batchNodes.clear();
+        rows.clear();
+        currentRow = null;
+    }
+
+    private void releasePooledControls() {
+        if (controlPool != null && !pooledControls.isEmpty()) {
+            Set<Node> nodes = new HashSet<>(pooledControls);
+            gridPane.getChildren().removeAll(nodes);
+            for (Row row : rows) {
+                row.nodes.removeAll(nodes);
+            }
+            for (Control control : pooledControls) {
+                controlPool.release(control);
+            }
+        }
+        pooledControls.clear();
+    }
+
+    /**
+     * Runs the activation now, or when the form is attached if it is built asynchronously.
+     *
+     * <p>Everything that touches the model properties or registers listeners must be activated,
+     * so that an asynchronously built form does not touch them outside of the JavaFX application thread.</p>
+     */
+    void activate(Runnable activation) {
+        if (!deferred(activation)) {
+            activation.run();
+        }
+    }
+
+    private boolean deferred(Runnable activation) {
+        if (pendingActivations == null) {
+            return false;
+        }
+
+        Row row = currentRow;
+        pendingActivations.add(() -> inRow(row, activation));
+        return true;
+    }
+
+    /**
+     * Makes the specified row the owner of the bindings, listeners and disposers registered after this call,
+     * so that they are released when the row is removed.
+     */
+    void enterRow(Row row) {
+        currentRow = row;
+    }
+
+    private void inRow(Row row, Runnable runnable) {
+        Row previousRow = currentRow;
+        currentRow = row;
+        try {
+            runnable.run();
+        } finally {
+            currentRow = previousRow;
+        }
+    }
+
+    void addDisposer(Runnable disposer) {
+        if (currentRow != null) {
+            currentRow.disposers.add(disposer);
+        } else {
+            disposers.add(disposer);
+        }
+    }
+
+    private void retain(Object listener) {
+        retainedListeners.add(listener);
+        if (currentRow != null) {
+            currentRow.retainedListeners.add(listener);
+        }
+    }
+
+    <T> void bindBidirectional(Property<T> property1, Property<T> property2) {
+        if (deferred(() -> bindBidirectional(property1, property2))) {
+            return;
+        }
+
+        Bindings.bindBidirectional(property1, property2);
+        bindingRegistered();
+        addDisposer(() -> Bindings.unbindBidirectional(property1, property2));
+    }
+
+    void bindBidirectional(StringProperty stringProperty, Property<?> otherProperty, Format format) {
+        if (deferred(() -> bindBidirectional(stringProperty, otherProperty, format))) {
+            return;
+        }
+
+        Bindings.bindBidirectional(stringProperty, otherProperty, format);
+        bindingRegistered();
+        addDisposer(() -> Bindings.unbindBidirectional(stringProperty, otherProperty));
+    }
+
+    void bindPrimitive(ObservableValue<?> controlValue, ObservableValue<?> modelValue, PrimitiveBinding binding) {
+        if (deferred(() -> bindPrimitive(controlValue, modelValue, binding))) {
+            return;
+        }
+
+        binding.setValues(controlValue, modelValue);
+        binding.updateControl();
+
+        addInvalidationListener(controlValue, binding);
+        addInvalidationListener(modelValue, binding);
+        bindingRegistered();
+    }
+
+    /**
+     * Binds the text of the control to the property, writing the parsed text to the property only when the commit policy commits.
+     */
+    @SuppressWarnings("unchecked")
+    <T> void bindCommitted(TextField control, Property<T> property, Format format, CommitPolicy commitPolicy) {
+        if (deferred(() -> bindCommitted(control, property, format, commitPolicy))) {
+            return;
+        }
+
+        if (commitPolicy.isImmediate()) {
+            bindBidirectional(control.textProperty(), property, format);
+            return;
+        }
+
+        UpdateGuard guard = new UpdateGuard();
+        Runnable commit = () -> guard.run(() -> {
+            try {
+                property.setValue((T) format.parseObject(control.getText()));
+            } catch (ParseException e) {
+                // keep the text in the control and the last valid value in the property
+            }
+        });
+
+        T value = property.getValue();
+        control.setText(value == null ? "" : format.format(value));
+        addChangeListener(property, (observable, oldValue, newValue) -> {
+            guard.run(() -> control.setText(newValue == null ? "" : format.format(newValue)));
+        });
+
+        if (commitPolicy.onEnter) {
+            EventHandler<ActionEvent> actionHandler = event -> commit.run();
+            control.addEventHandler(ActionEvent.ACTION, actionHandler);
+            addDisposer(() -> control.removeEventHandler(ActionEvent.ACTION, actionHandler));
+        }
+        if (commitPolicy.onFocusLost) {
+            addChangeListener(control.focusedProperty(), (observable, oldValue, newValue) -> {
+                if (!newValue) {
+                    commit.run();
+                }
+            });
+        }
+        if (commitPolicy.idleDelay != null) {
+            PauseTransition idle = new PauseTransition(commitPolicy.idleDelay);
+            idle.setOnFinished(event -> commit.run());
+            addInvalidationListener(control.textProperty(), observable -> {
+                if (!guard.isActive()) {
+                    idle.playFromStart();
+                }
+            });
+            addDisposer(idle::stop);
+        }
+    }
+
+    void addInvalidationListener(Observable observable, InvalidationListener listener) {
+        if (deferred(() -> addInvalidationListener(observable, listener))) {
+            return;
+        }
+
+        InvalidationListener registeredListener = listener;
+        if (weakListeners) {
+            retain(listener);
+            registeredListener = new WeakInvalidationListener(listener);
+        }
+
+        InvalidationListener finalListener = registeredListener;
+        observable.addListener(finalListener);
+        addDisposer(() -> observable.removeListener(finalListener));
+        listenerRegistered();
+    }
+
+    <T> void addChangeListener(ObservableValue<T> observable, ChangeListener<? super T> listener) {
+        if (deferred(() -> addChangeListener(observable, listener))) {
+            return;
+        }
+
+        ChangeListener<? super T> registeredListener = listener;
+        if (weakListeners) {
+            retain(listener);
+            registeredListener = new WeakChangeListener<>(listener);
+        }
+
+        ChangeListener<? super T> finalListener = registeredListener;
+        observable.addListener(finalListener);
+        addDisposer(() -> observable.removeListener(finalListener));
+        listenerRegistered();
+    }
+
+    <E> void addListChangeListener(ObservableList<E> list, ListChangeListener<? super E> listener) {
+        if (deferred(() -> addListChangeListener(list, listener))) {
+            return;
+        }
+
+        ListChangeListener<? super E> registeredListener = listener;
+        if (weakListeners) {
+            retain(listener);
+            registeredListener = new WeakListChangeListener<>(listener);
+        }
+
+        ListChangeListener<? super E> finalListener = registeredListener;
+        list.addListener(finalListener);
+        addDisposer(() -> list.removeListener(finalListener));
+        listenerRegistered();
+    }
+
+    private void bindingRegistered() {
+        if (metrics != null) {
+            metrics.bindingRegistered();
+        }
+    }
+
+    private void listenerRegistered() {
+        if (metrics != null) {
+            metrics.listenerRegistered();
+        }
+    }
+
+    private void nodeCreated() {
+        if (metrics != null) {
+            metrics.nodeCreated();
+        }
+    }
+
+    void add(Node node, int colIndex, Row row) {
+        nodeCreated();
+        row.add(node);
+        if (batchDepth > 0) {
+            GridPane.setConstraints(node, colIndex, row.index);
+            batchNodes.add(node);
+        } else {
+            gridPane.add(node, colIndex, row.index);
+        }
+    }
+
+    void add(Node node, int colIndex, Row row, int colSpan, int rowSpan) {
+        nodeCreated();
+        row.add(node);
+        if (batchDepth > 0) {
+            GridPane.setConstraints(node, colIndex, row.index, colSpan, rowSpan);
+            batchNodes.add(node);
+        } else {
+            gridPane.add(node, colIndex, row.index, colSpan, rowSpan);
+        }
+    }
+
+    /**
+     * Row of a form with the nodes that were added to it.
+     */
+    static final class Row {
+        private int index;
+        private final List<Node> nodes = new ArrayList<>();
+        private final List<Runnable> disposers = new ArrayList<>();
+        private final List<Object> retainedListeners = new ArrayList<>();
+
+        private ObservableBooleanValue visibleCondition;
+        private boolean visible = true;
+
+        Row(int index) {
+            this.index = index;
+        }
+
+        private void add(Node node) {
+            nodes.add(node);
+            if (!visible) {
+                node.setVisible(false);
+                node.setManaged(false);
+            }
+        }
+
+        private void dispose() {
+            for (int i = disposers.size() - 1; i >= 0; i--) {
+                disposers.get(i).run();
+            }
+            disposers.clear();
+        }
+
+        private void updateVisibility() {
+            if (visibleCondition != null) {
+                setVisible(visibleCondition.get());
+            }
+        }
+
+        private void setVisible(boolean visible) {
+            if (this.visible == visible) {
+                return;
+            }
+
+            this.visible = visible;
+            for (Node node : nodes) {
+                node.setVisible(visible);
+                node.setManaged(visible);
+            }
         }
     }
 
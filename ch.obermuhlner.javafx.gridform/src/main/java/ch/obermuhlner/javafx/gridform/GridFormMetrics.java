@@ -0,0 +1,215 @@
+package ch.obermuhlner.javafx.gridform;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics collected by the {@link GridForm}s that use them (see {@link GridForm#setMetrics(GridFormMetrics)}).
+ *
+ * <p>Counts the rows and nodes created and the bindings and listeners registered,
+ * and measures the time spent in every {@link RowBuilder} factory method and in the selection synchronization listeners.</p>
+ *
+ * <p>Every measured factory method and selection synchronization is also emitted as a JDK Flight Recorder event
+ * ({@code ch.obermuhlner.javafx.gridform.Factory} and {@code ch.obermuhlner.javafx.gridform.SelectionSync})
+ * with the name of the form, so that slow JavaFX pulses in a recording can be correlated with specific forms.</p>
+ *
+ * <p>Forms without metrics do not measure anything.</p>
+ *
+ * <p>The metrics are thread-safe, so that a form built with {@link GridForm#buildAsync} on a background thread
+ * can record into the same metrics as the forms on the JavaFX application thread.</p>
+ */
+public class GridFormMetrics {
+
+    private final String formName;
+
+    private final LongAdder rowCount = new LongAdder();
+    private final LongAdder nodeCount = new LongAdder();
+    private final LongAdder bindingCount = new LongAdder();
+    private final LongAdder listenerCount = new LongAdder();
+
+    private final Map<String, Timing> factoryTimings = new ConcurrentSkipListMap<>();
+    private final Map<String, Timing> selectionSyncTimings = new ConcurrentSkipListMap<>();
+
+    public GridFormMetrics(String formName) {
+        this.formName = formName;
+    }
+
+    public String getFormName() {
+        return formName;
+    }
+
+    public long getRowCount() {
+        return rowCount.sum();
+    }
+
+    public long getNodeCount() {
+        return nodeCount.sum();
+    }
+
+    public long getBindingCount() {
+        return bindingCount.sum();
+    }
+
+    public long getListenerCount() {
+        return listenerCount.sum();
+    }
+
+    /**
+     * Returns the timings of the {@link RowBuilder} factory methods, keyed by method name.
+     */
+    public Map<String, Timing> getFactoryTimings() {
+        return Collections.unmodifiableMap(factoryTimings);
+    }
+
+    /**
+     * Returns the timings of the selection synchronization listeners, keyed by the factory method that registered them.
+     */
+    public Map<String, Timing> getSelectionSyncTimings() {
+        return Collections.unmodifiableMap(selectionSyncTimings);
+    }
+
+    public void reset() {
+        rowCount.reset();
+        nodeCount.reset();
+        bindingCount.reset();
+        listenerCount.reset();
+        factoryTimings.clear();
+        selectionSyncTimings.clear();
+    }
+
+    void rowCreated() {
+        rowCount.increment();
+    }
+
+    void nodeCreated() {
+        nodeCount.increment();
+    }
+
+    void bindingRegistered() {
+        bindingCount.increment();
+    }
+
+    void listenerRegistered() {
+        listenerCount.increment();
+    }
+
+    Measurement beginFactory(String method) {
+        FactoryEvent event = new FactoryEvent();
+        event.form = formName;
+        event.method = method;
+        return new Measurement(factoryTimings.computeIfAbsent(method, key -> new Timing()), event);
+    }
+
+    Measurement beginSelectionSync(String method) {
+        SelectionSyncEvent event = new SelectionSyncEvent();
+        event.form = formName;
+        event.method = method;
+        return new Measurement(selectionSyncTimings.computeIfAbsent(method, key -> new Timing()), event);
+    }
+
+    @Override
+    public String toString() {
+        return "GridFormMetrics{" +
+                "form=" + formName +
+                ", rows=" + getRowCount() +
+                ", nodes=" + getNodeCount() +
+                ", bindings=" + getBindingCount() +
+                ", listeners=" + getListenerCount() +
+                ", factories=" + factoryTimings +
+                ", selectionSync=" + selectionSyncTimings +
+                '}';
+    }
+
+    /**
+     * Number of calls and time spent in a measured method.
+     */
+    public static class Timing {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public long getTotalNanos() {
+            return totalNanos.sum();
+        }
+
+        public long getMaxNanos() {
+            return maxNanos.get();
+        }
+
+        public double getAverageNanos() {
+            long calls = getCount();
+            return calls == 0 ? 0.0 : (double) getTotalNanos() / calls;
+        }
+
+        void record(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+        }
+
+        @Override
+        public String toString() {
+            return getCount() + " calls, " + (getTotalNanos() / 1000) + " us";
+        }
+    }
+
+    static class Measurement {
+        private final Timing timing;
+        private final Event event;
+        private final long startNanos;
+
+        Measurement(Timing timing, Event event) {
+            this.timing = timing;
+            this.event = event;
+
+            event.begin();
+            startNanos = System.nanoTime();
+        }
+
+        void end() {
+            timing.record(System.nanoTime() - startNanos);
+
+            event.end();
+            if (event.shouldCommit()) {
+                event.commit();
+            }
+        }
+    }
+
+    @Name("ch.obermuhlner.javafx.gridform.Factory")
+    @Label("GridForm Factory")
+    @Description("Creation of a control by a RowBuilder factory method")
+    @Category({"JavaFX", "GridForm"})
+    static class FactoryEvent extends Event {
+        @Label("Form")
+        String form;
+
+        @Label("Method")
+        String method;
+    }
+
+    @Name("ch.obermuhlner.javafx.gridform.SelectionSync")
+    @Label("GridForm Selection Sync")
+    @Description("Synchronization between the selection of a control and the model")
+    @Category({"JavaFX", "GridForm"})
+    static class SelectionSyncEvent extends Event {
+        @Label("Form")
+        String form;
+
+        @Label("Method")
+        String method;
+    }
+}
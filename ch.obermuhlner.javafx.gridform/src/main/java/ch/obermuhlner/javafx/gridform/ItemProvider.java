@@ -0,0 +1,27 @@
+package ch.obermuhlner.javafx.gridform;
+
+import java.util.List;
+
+/**
+ * Provides the items of a choice control page by page, for example from a database.
+ *
+ * <p>The provider is called on a background executor, never on the JavaFX application thread.</p>
+ *
+ * @param <T> the type of the items
+ * @see RowBuilder#comboBox(javafx.beans.property.Property, ItemProvider, java.util.concurrent.Executor)
+ */
+@FunctionalInterface
+public interface ItemProvider<T> {
+
+    /**
+     * Loads a page of the items that match the specified filter.
+     *
+     * <p>A page with fewer than {@code limit} items marks the end of the matching items.</p>
+     *
+     * @param filter the text typed by the user, empty to match all items
+     * @param offset the index of the first item to load
+     * @param limit the maximum number of items to load
+     * @return the loaded items
+     */
+    List<T> load(String filter, int offset, int limit);
+}
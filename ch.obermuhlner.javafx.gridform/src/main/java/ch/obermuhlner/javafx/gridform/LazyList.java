@@ -0,0 +1,150 @@
+package ch.obermuhlner.javafx.gridform;
+
+import javafx.application.Platform;
+import javafx.collections.ObservableListBase;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+/**
+ * Observable list of known size whose items are loaded page by page from a {@link PageLoader} when they are accessed.
+ *
+ * <p>Accessing an item that is not loaded yet returns {@code null} and starts loading its page on the background executor,
+ * together with the neighbouring pages.
+ * When a page is loaded its items are reported as updated, so that the cells showing them are refreshed.
+ * Only the most recently used pages are kept, the others are evicted and loaded again when they are accessed.</p>
+ *
+ * <p>A page that failed to load is not loaded again before its back-off delay has passed,
+ * which starts at one second and doubles with every further failure up to one minute,
+ * so that a failing backend is not queried on every access of a cell.</p>
+ *
+ * <p>The list is unmodifiable and must only be accessed on the JavaFX application thread.</p>
+ */
+class LazyList<T> extends ObservableListBase<T> {
+    private static final long INITIAL_RETRY_DELAY_NANOS = 1000000000L;
+    private static final long MAX_RETRY_DELAY_NANOS = 60 * INITIAL_RETRY_DELAY_NANOS;
+
+    private final int size;
+    private final PageLoader<T> pageLoader;
+    private final Executor executor;
+    private final int pageSize;
+
+    private final Map<Integer, List<T>> pages;
+    private final Set<Integer> loadingPages = new HashSet<>();
+    private final Map<Integer, PageFailure> failedPages = new HashMap<>();
+
+    private boolean cancelled;
+
+    LazyList(int size, PageLoader<T> pageLoader, Executor executor, int pageSize, int maxPages) {
+        this.size = size;
+        this.pageLoader = pageLoader;
+        this.executor = executor;
+        this.pageSize = pageSize;
+
+        pages = new LinkedHashMap<Integer, List<T>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, List<T>> eldest) {
+                return size() > maxPages;
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        int pageIndex = index / pageSize;
+        List<T> page = pages.get(pageIndex);
+
+        prefetch(pageIndex - 1);
+        prefetch(pageIndex + 1);
+
+        if (page == null) {
+            load(pageIndex);
+            return null;
+        }
+
+        int pageOffset = index - pageIndex * pageSize;
+        return pageOffset < page.size() ? page.get(pageOffset) : null;
+    }
+
+    /**
+     * Drops the results of all running loads and stops loading.
+     */
+    void cancel() {
+        cancelled = true;
+        loadingPages.clear();
+    }
+
+    private void prefetch(int pageIndex) {
+        if (pageIndex >= 0 && pageIndex * pageSize < size && !pages.containsKey(pageIndex)) {
+            load(pageIndex);
+        }
+    }
+
+    private void load(int pageIndex) {
+        if (cancelled || loadingPages.contains(pageIndex)) {
+            return;
+        }
+
+        PageFailure failure = failedPages.get(pageIndex);
+        if (failure != null && System.nanoTime() - failure.retryNanos < 0) {
+            return;
+        }
+        loadingPages.add(pageIndex);
+
+        int offset = pageIndex * pageSize;
+        int limit = Math.min(pageSize, size - offset);
+
+        executor.execute(() -> {
+            List<T> page;
+            try {
+                page = pageLoader.load(offset, limit);
+            } catch (RuntimeException e) {
+                Platform.runLater(() -> {
+                    if (loadingPages.remove(pageIndex)) {
+                        failedPages.computeIfAbsent(pageIndex, key -> new PageFailure()).failed();
+                    }
+                });
+                throw e;
+            }
+
+            Platform.runLater(() -> {
+                if (!loadingPages.remove(pageIndex)) {
+                    return;
+                }
+
+                pages.put(pageIndex, page);
+                failedPages.remove(pageIndex);
+
+                beginChange();
+                for (int i = 0; i < page.size(); i++) {
+                    nextUpdate(offset + i);
+                }
+                endChange();
+            });
+        });
+    }
+
+    private static class PageFailure {
+        private long retryDelayNanos;
+        private long retryNanos;
+
+        void failed() {
+            retryDelayNanos = retryDelayNanos == 0 ? INITIAL_RETRY_DELAY_NANOS : Math.min(retryDelayNanos * 2, MAX_RETRY_DELAY_NANOS);
+            retryNanos = System.nanoTime() + retryDelayNanos;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package ch.obermuhlner.javafx.gridform;
+
+import java.util.List;
+
+/**
+ * Loads the items of a list with known size page by page, in any order.
+ *
+ * <p>The loader is called on a background executor, never on the JavaFX application thread.</p>
+ *
+ * @param <T> the type of the items
+ * @see RowBuilder#listView(javafx.beans.property.IntegerProperty, int, PageLoader, java.util.concurrent.Executor)
+ */
+@FunctionalInterface
+public interface PageLoader<T> {
+
+    /**
+     * Loads the items in the specified range.
+     *
+     * @param offset the index of the first item to load
+     * @param limit the number of items to load
+     * @return the loaded items, exactly {@code limit} items unless the range reaches the end of the list
+     */
+    List<T> load(int offset, int limit);
+}
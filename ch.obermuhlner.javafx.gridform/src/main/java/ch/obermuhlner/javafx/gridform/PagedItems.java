@@ -0,0 +1,103 @@
+package ch.obermuhlner.javafx.gridform;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * Items of a choice control that are loaded page by page from an {@link ItemProvider} on a background executor.
+ *
+ * <p>All methods except the loading itself run on the JavaFX application thread.
+ * Every change of the filter starts a new generation, queries of older generations are skipped if they did not start yet
+ * and their results are dropped if they did.</p>
+ */
+class PagedItems<T> {
+    private final ItemProvider<T> itemProvider;
+    private final Executor executor;
+    private final int pageSize;
+
+    private final ObservableList<T> items = FXCollections.observableArrayList();
+
+    private volatile int generation;
+    private String filter = "";
+    private boolean loading;
+    private boolean complete;
+
+    PagedItems(ItemProvider<T> itemProvider, Executor executor, int pageSize) {
+        this.itemProvider = itemProvider;
+        this.executor = executor;
+        this.pageSize = pageSize;
+    }
+
+    ObservableList<T> getItems() {
+        return items;
+    }
+
+    String getFilter() {
+        return filter;
+    }
+
+    /**
+     * Discards the loaded items and starts loading the first page matching the specified filter.
+     */
+    void filter(String filter) {
+        cancel();
+        this.filter = filter == null ? "" : filter;
+        items.clear();
+        complete = false;
+        loadNextPage();
+    }
+
+    /**
+     * Drops the results of all running and queued queries.
+     */
+    void cancel() {
+        generation++;
+        loading = false;
+    }
+
+    /**
+     * Starts loading the next page, unless a page is already loading or all items are loaded.
+     */
+    void loadNextPage() {
+        if (loading || complete) {
+            return;
+        }
+        loading = true;
+
+        int queryGeneration = generation;
+        String queryFilter = filter;
+        int offset = items.size();
+
+        executor.execute(() -> {
+            if (queryGeneration != generation) {
+                return;
+            }
+
+            List<T> page;
+            try {
+                page = itemProvider.load(queryFilter, offset, pageSize);
+            } catch (RuntimeException e) {
+                Platform.runLater(() -> {
+                    if (queryGeneration == generation) {
+                        loading = false;
+                    }
+                });
+                throw e;
+            }
+
+            Platform.runLater(() -> {
+                if (queryGeneration != generation) {
+                    return;
+                }
+
+                loading = false;
+                complete = page.size() < pageSize;
+                items.addAll(page);
+            });
+        });
+    }
+}
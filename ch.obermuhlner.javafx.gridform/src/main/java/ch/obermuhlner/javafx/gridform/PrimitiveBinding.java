@@ -0,0 +1,74 @@
+package ch.obermuhlner.javafx.gridform;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.beans.value.ObservableNumberValue;
+import javafx.beans.value.ObservableValue;
+
+/**
+ * Bidirectional binding between a control value and a primitive model property that does not box the values.
+ *
+ * <p>The binding is an {@link InvalidationListener} on both values and copies the primitive value
+ * with the specialized getters and setters, instead of going through {@code Property<Number>} and {@code ChangeListener}.</p>
+ *
+ * <p>After every write both values are read back.
+ * The invalidation caused by the write is suppressed while updating,
+ * and an observable that stays invalid does not notify its listeners about later changes.</p>
+ */
+abstract class PrimitiveBinding implements InvalidationListener {
+    private ObservableValue<?> controlValue;
+    private ObservableValue<?> modelValue;
+    private boolean updating;
+
+    /**
+     * Copies the value of the control to the model.
+     */
+    abstract void writeModel();
+
+    /**
+     * Copies the value of the model to the control.
+     */
+    abstract void writeControl();
+
+    void setValues(ObservableValue<?> controlValue, ObservableValue<?> modelValue) {
+        this.controlValue = controlValue;
+        this.modelValue = modelValue;
+    }
+
+    void updateControl() {
+        writeControl();
+        readBack();
+    }
+
+    @Override
+    public void invalidated(Observable observable) {
+        if (updating) {
+            return;
+        }
+
+        updating = true;
+        try {
+            if (observable == controlValue) {
+                writeModel();
+            } else {
+                writeControl();
+            }
+            readBack();
+        } finally {
+            updating = false;
+        }
+    }
+
+    private void readBack() {
+        validate(controlValue);
+        validate(modelValue);
+    }
+
+    private static void validate(ObservableValue<?> value) {
+        if (value instanceof ObservableNumberValue) {
+            ((ObservableNumberValue) value).doubleValue();
+        } else {
+            value.getValue();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package ch.obermuhlner.javafx.gridform;
+
+import javafx.application.Platform;
+import javafx.beans.value.WritableValue;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bridges writes from any thread to properties that may only be touched on the JavaFX application thread.
+ *
+ * <p>The writes are coalesced per property and applied together once per JavaFX pulse,
+ * so a property that is written many times within a frame receives only the latest value
+ * and its listeners are notified at most once per frame, even if it is written continuously.
+ * The writes are applied in the order in which the properties were first written.</p>
+ *
+ * <p>The bridged properties are the same properties that are passed to the {@link RowBuilder} methods:</p>
+ * <pre>
+ * PropertyBridge bridge = new PropertyBridge();
+ * gridForm.row()
+ *         .label("Temperature")
+ *         .label(temperatureProperty, GridForm.DOUBLE_FORMAT);
+ *
+ * // on a worker thread
+ * bridge.set(temperatureProperty, 21.5);
+ * </pre>
+ */
+public class PropertyBridge {
+    private final Object lock = new Object();
+
+    private final PulseCoalescer pulseCoalescer = new PulseCoalescer();
+    private final Runnable flush = this::flush;
+
+    // keyed by identity, the equals() of list, set and map properties depends on their content
+    private Map<WritableValue<?>, PendingWrite> pendingWrites = new IdentityHashMap<>();
+    private List<PendingWrite> pendingOrder = new ArrayList<>();
+    private boolean flushScheduled;
+
+    /**
+     * Sets the value of the property on the JavaFX application thread.
+     *
+     * <p>This method may be called from any thread.</p>
+     *
+     * @param property the property to write
+     * @param value the new value
+     * @param <T> the type of the value
+     */
+    public <T> void set(WritableValue<T> property, T value) {
+        synchronized (lock) {
+            PendingWrite pendingWrite = pendingWrites.get(property);
+            if (pendingWrite == null) {
+                pendingWrite = new PendingWrite(property);
+                pendingWrites.put(property, pendingWrite);
+                pendingOrder.add(pendingWrite);
+            }
+            pendingWrite.value = value;
+
+            if (flushScheduled) {
+                return;
+            }
+            flushScheduled = true;
+        }
+
+        Platform.runLater(() -> pulseCoalescer.schedule(flush));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void flush() {
+        List<PendingWrite> writes;
+        synchronized (lock) {
+            writes = pendingOrder;
+            pendingWrites = new IdentityHashMap<>();
+            pendingOrder = new ArrayList<>();
+            flushScheduled = false;
+        }
+
+        for (PendingWrite write : writes) {
+            ((WritableValue<Object>) write.property).setValue(write.value);
+        }
+    }
+
+    private static class PendingWrite {
+        private final WritableValue<?> property;
+        private Object value;
+
+        PendingWrite(WritableValue<?> property) {
+            this.property = property;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package ch.obermuhlner.javafx.gridform;
+
+import javafx.beans.binding.Bindings;
+import javafx.beans.property.*;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Source of properties that follow the properties of an exchangeable model instance.
+ *
+ * <p>The properties returned by this source are bound bidirectionally to the corresponding properties of the current model.
+ * They can be passed to the {@link RowBuilder} methods like any other property.
+ * When the model is replaced the existing controls are rebound in place to the properties of the new model,
+ * so switching the model costs only the value updates, instead of rebuilding the form.</p>
+ *
+ * <pre>
+ * PropertySource&lt;Person&gt; person = new PropertySource&lt;&gt;();
+ * gridForm.row()
+ *         .label("Name")
+ *         .textField(person.stringProperty(Person::nameProperty));
+ *
+ * person.setModel(selectedPerson);
+ * </pre>
+ *
+ * <p>While the model is {@code null} the properties are not bound and hold their default value
+ * ({@code null}, {@code false}, {@code 0} or a new empty list), so that edits no longer reach the previous model.</p>
+ *
+ * @param <M> the type of the model
+ */
+public class PropertySource<M> {
+
+    private final ObjectProperty<M> model = new SimpleObjectProperty<>();
+
+    private final List<ProxyBinding<M, ?>> proxyBindings = new ArrayList<>();
+
+    public PropertySource() {
+        model.addListener((observable, oldValue, newValue) -> {
+            for (ProxyBinding<M, ?> proxyBinding : proxyBindings) {
+                proxyBinding.unbind();
+                if (newValue != null) {
+                    proxyBinding.bind(newValue);
+                } else {
+                    proxyBinding.reset();
+                }
+            }
+        });
+    }
+
+    public PropertySource(M model) {
+        this();
+        setModel(model);
+    }
+
+    public ObjectProperty<M> modelProperty() {
+        return model;
+    }
+
+    public M getModel() {
+        return model.get();
+    }
+
+    public void setModel(M model) {
+        this.model.set(model);
+    }
+
+    public StringProperty stringProperty(Function<M, ? extends Property<String>> accessor) {
+        return proxy(new SimpleStringProperty(), accessor, () -> null);
+    }
+
+    public BooleanProperty booleanProperty(Function<M, ? extends Property<Boolean>> accessor) {
+        return proxy(new SimpleBooleanProperty(), accessor, () -> false);
+    }
+
+    public IntegerProperty integerProperty(Function<M, ? extends Property<Number>> accessor) {
+        return proxy(new SimpleIntegerProperty(), accessor, () -> 0);
+    }
+
+    public LongProperty longProperty(Function<M, ? extends Property<Number>> accessor) {
+        return proxy(new SimpleLongProperty(), accessor, () -> 0L);
+    }
+
+    public DoubleProperty doubleProperty(Function<M, ? extends Property<Number>> accessor) {
+        return proxy(new SimpleDoubleProperty(), accessor, () -> 0.0);
+    }
+
+    public <T> ObjectProperty<T> objectProperty(Function<M, ? extends Property<T>> accessor) {
+        return proxy(new SimpleObjectProperty<T>(), accessor, () -> null);
+    }
+
+    public <T> ListProperty<T> listProperty(Function<M, ? extends Property<ObservableList<T>>> accessor) {
+        return proxy(new SimpleListProperty<T>(FXCollections.observableArrayList()), accessor, FXCollections::observableArrayList);
+    }
+
+    private <T, P extends Property<T>> P proxy(P proxyProperty, Function<M, ? extends Property<T>> accessor, Supplier<T> defaultValue) {
+        ProxyBinding<M, T> proxyBinding = new ProxyBinding<>(proxyProperty, accessor, defaultValue);
+        proxyBindings.add(proxyBinding);
+
+        M currentModel = model.get();
+        if (currentModel != null) {
+            proxyBinding.bind(currentModel);
+        }
+
+        return proxyProperty;
+    }
+
+    private static class ProxyBinding<M, T> {
+        private final Property<T> proxyProperty;
+        private final Function<M, ? extends Property<T>> accessor;
+        private final Supplier<T> defaultValue;
+
+        private Property<T> boundProperty;
+
+        ProxyBinding(Property<T> proxyProperty, Function<M, ? extends Property<T>> accessor, Supplier<T> defaultValue) {
+            this.proxyProperty = proxyProperty;
+            this.accessor = accessor;
+            this.defaultValue = defaultValue;
+        }
+
+        void bind(M model) {
+            boundProperty = accessor.apply(model);
+            Bindings.bindBidirectional(proxyProperty, boundProperty);
+        }
+
+        void unbind() {
+            if (boundProperty != null) {
+                Bindings.unbindBidirectional(proxyProperty, boundProperty);
+                boundProperty = null;
+            }
+        }
+
+        void reset() {
+            // the proxy still holds the value of the previous model, for lists even the list instance itself
+            proxyProperty.setValue(defaultValue.get());
+        }
+    }
+}
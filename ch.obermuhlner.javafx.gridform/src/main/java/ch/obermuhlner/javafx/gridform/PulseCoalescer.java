@@ -0,0 +1,47 @@
+package ch.obermuhlner.javafx.gridform;
+
+import javafx.animation.AnimationTimer;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Coalesces updates so that every scheduled update runs at most once per JavaFX pulse.
+ *
+ * <p>The updates read the latest value of their source when they run,
+ * so scheduling the same update many times within a pulse applies only the latest value.</p>
+ */
+class PulseCoalescer {
+    private final Set<Runnable> pendingUpdates = new LinkedHashSet<>();
+
+    private final AnimationTimer timer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            flush();
+        }
+    };
+
+    private boolean running;
+
+    void schedule(Runnable update) {
+        pendingUpdates.add(update);
+
+        if (!running) {
+            running = true;
+            timer.start();
+        }
+    }
+
+    void flush() {
+        timer.stop();
+        running = false;
+
+        List<Runnable> updates = new ArrayList<>(pendingUpdates);
+        pendingUpdates.clear();
+        for (Runnable update : updates) {
+            update.run();
+        }
+    }
+}
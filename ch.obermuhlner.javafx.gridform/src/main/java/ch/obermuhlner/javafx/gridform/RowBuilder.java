@@ -1,7 +1,8 @@
 package ch.obermuhlner.javafx.gridform;
 
-import javafx.beans.binding.Bindings;
 import javafx.beans.property.*;
+import javafx.beans.value.ObservableBooleanValue;
+import javafx.beans.value.ObservableValue;
 import javafx.collections.FXCollections;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
@@ -11,35 +12,71 @@ import javafx.scene.Node;
 import javafx.scene.control.*;
 import javafx.scene.layout.*;
 import javafx.scene.paint.Color;
+import javafx.util.Duration;
+import javafx.util.StringConverter;
 
 import java.text.Format;
 import java.time.LocalDate;
 import java.util.*;
+import java.util.concurrent.Executor;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 public class RowBuilder {
 
+    private static final int PAGE_SIZE = 100;
+    private static final int LAZY_LIST_MAX_PAGES = 20;
+
+    protected final GridForm gridForm;
     protected final GridPane gridPane;
-    private final int rowIndex;
+    final GridForm.Row row;
     private final int colIndex;
 
     RowBuilder(RowBuilder rowBuilder) {
-        this(rowBuilder.gridPane, rowBuilder.rowIndex, rowBuilder.colIndex + 1);
+        this(rowBuilder.gridForm, rowBuilder.row, rowBuilder.colIndex + 1);
     }
 
-    RowBuilder(GridPane gridPane, int rowIndex, int colIndex) {
-        this.gridPane = gridPane;
-        this.rowIndex = rowIndex;
+    RowBuilder(GridForm gridForm, GridForm.Row row, int colIndex) {
+        this.gridForm = gridForm;
+        this.gridPane = gridForm.getGridPane();
+        this.row = row;
         this.colIndex = colIndex;
     }
 
+    private GridFormMetrics.Measurement beginFactory(String method) {
+        gridForm.enterRow(row);
+        return gridForm.beginFactory(method);
+    }
+
     public RowBuilder empty() {
         return new RowBuilder(this);
     }
 
+    /**
+     * Shows all nodes of this row only while the specified condition is {@code true}.
+     *
+     * <p>Hidden rows are neither visible nor managed, so they do not take any space in the layout.
+     * The condition applies also to the nodes that are added to the row after this call.
+     * It is only evaluated again after one of its dependencies changed,
+     * and the changes of all rows are applied together once per pulse, causing a single layout pass.</p>
+     *
+     * <pre>
+     * gridForm.row()
+     *         .visibleWhen(married)
+     *         .label("Spouse")
+     *         .textField(spouseProperty);
+     * </pre>
+     *
+     * @param condition the condition, typically a binding on other properties of the model
+     * @return this builder
+     */
+    public RowBuilder visibleWhen(ObservableBooleanValue condition) {
+        gridForm.bindRowVisibility(row, condition);
+        return this;
+    }
+
     private <T extends Node, B extends NodeRowBuilder<T>> B node(T node, B builder) {
-        gridPane.add(node, colIndex, rowIndex);
+        gridForm.add(node, colIndex, row);
         return builder;
     }
 
@@ -48,7 +85,7 @@ public class RowBuilder {
     }
 
     public <T extends Node> NodeRowBuilder<T> node(T node, int colSpan, int rowSpan) {
-        gridPane.add(node, colIndex, rowIndex, colSpan, rowSpan);
+        gridForm.add(node, colIndex, row, colSpan, rowSpan);
         return new NodeRowBuilder<>(this, node);
     }
 
@@ -65,102 +102,333 @@ public class RowBuilder {
     }
 
     public ControlRowBuilder<Label> label(String text) {
+        GridFormMetrics.Measurement measurement = beginFactory("label");
         Label control = new Label(text);
 
-        return control(control);
+        return gridForm.end(measurement, control(control));
     }
 
     public ControlRowBuilder<Label> label(String text, Node graphic) {
+        GridFormMetrics.Measurement measurement = beginFactory("label");
         Label control = new Label(text, graphic);
 
-        return control(control);
+        return gridForm.end(measurement, control(control));
     }
 
     public ControlRowBuilder<Label> label(StringProperty textProperty) {
+        GridFormMetrics.Measurement measurement = beginFactory("label");
         Label control = new Label();
-        control.textProperty().bindBidirectional(textProperty);
+        if (gridForm.isPulseCoalescing()) {
+            gridForm.bindCoalesced(textProperty, () -> control.setText(textProperty.get()));
+        } else {
+            gridForm.bindBidirectional(control.textProperty(), textProperty);
+        }
 
-        return control(control);
+        return gridForm.end(measurement, control(control));
     }
 
     public <T> ControlRowBuilder<Label> label(Property<T> textProperty, Format format) {
+        GridFormMetrics.Measurement measurement = beginFactory("label");
         Label control = new Label();
-        control.textProperty().bindBidirectional(textProperty, format);
+        if (gridForm.isPulseCoalescing()) {
+            gridForm.bindCoalesced(textProperty, () -> {
+                T value = textProperty.getValue();
+                control.setText(value == null ? "" : format.format(value));
+            });
+        } else {
+            gridForm.bindBidirectional(control.textProperty(), textProperty, format);
+        }
 
-        return control(control);
+        return gridForm.end(measurement, control(control));
     }
 
     public ControlRowBuilder<TextField> textField(String text) {
-        TextField control = new TextField(text);
+        GridFormMetrics.Measurement measurement = beginFactory("textField");
+        TextField control = gridForm.acquire(TextField.class, TextField::new);
+        control.setText(text);
 
-        return control(control);
+        return gridForm.end(measurement, control(control));
     }
 
     public ControlRowBuilder<TextField> textField(StringProperty textProperty) {
-        TextField control = new TextField();
-        control.textProperty().bindBidirectional(textProperty);
+        GridFormMetrics.Measurement measurement = beginFactory("textField");
+        TextField control = gridForm.acquire(TextField.class, TextField::new);
+        gridForm.bindBidirectional(control.textProperty(), textProperty);
 
-        return control(control);
+        return gridForm.end(measurement, control(control));
     }
 
     public <T> ControlRowBuilder<TextField> textField(Property<T> textProperty, Format format) {
-        TextField control = new TextField();
-        control.textProperty().bindBidirectional(textProperty, format);
+        GridFormMetrics.Measurement measurement = beginFactory("textField");
+        TextField control = gridForm.acquire(TextField.class, TextField::new);
+        gridForm.bindBidirectional(control.textProperty(), textProperty, format);
+
+        return gridForm.end(measurement, control(control));
+    }
+
+    /**
+     * Adds a text field that writes the parsed text to the property only when the commit policy commits.
+     *
+     * @param textProperty the property
+     * @param format the format to convert between the text and the value of the property
+     * @param commitPolicy specifies when the text is written to the property
+     * @param <T> the type of the property value
+     * @return the builder of the text field
+     */
+    public <T> ControlRowBuilder<TextField> textField(Property<T> textProperty, Format format, CommitPolicy commitPolicy) {
+        GridFormMetrics.Measurement measurement = beginFactory("textField");
+        TextField control = gridForm.acquire(TextField.class, TextField::new);
+        gridForm.bindCommitted(control, textProperty, format, commitPolicy);
+
+        return gridForm.end(measurement, control(control));
+    }
+
+    public ControlRowBuilder<TextField> textField(DoubleProperty valueProperty) {
+        GridFormMetrics.Measurement measurement = beginFactory("textField");
+        TextField control = gridForm.acquire(TextField.class, TextField::new);
+        gridForm.bindPrimitive(control.textProperty(), valueProperty, new PrimitiveBinding() {
+            @Override
+            void writeModel() {
+                try {
+                    valueProperty.set(Double.parseDouble(control.getText()));
+                } catch (NumberFormatException e) {
+                    // keep the last valid value
+                }
+            }
+
+            @Override
+            void writeControl() {
+                control.setText(toText(valueProperty.get()));
+            }
+        });
+
+        return gridForm.end(measurement, control(control));
+    }
+
+    public ControlRowBuilder<TextField> textField(IntegerProperty valueProperty) {
+        GridFormMetrics.Measurement measurement = beginFactory("textField");
+        TextField control = gridForm.acquire(TextField.class, TextField::new);
+        gridForm.bindPrimitive(control.textProperty(), valueProperty, new PrimitiveBinding() {
+            @Override
+            void writeModel() {
+                try {
+                    valueProperty.set(Integer.parseInt(control.getText()));
+                } catch (NumberFormatException e) {
+                    // keep the last valid value
+                }
+            }
+
+            @Override
+            void writeControl() {
+                control.setText(Integer.toString(valueProperty.get()));
+            }
+        });
 
-        return control(control);
+        return gridForm.end(measurement, control(control));
+    }
+
+    public ControlRowBuilder<TextField> textField(LongProperty valueProperty) {
+        GridFormMetrics.Measurement measurement = beginFactory("textField");
+        TextField control = gridForm.acquire(TextField.class, TextField::new);
+        gridForm.bindPrimitive(control.textProperty(), valueProperty, new PrimitiveBinding() {
+            @Override
+            void writeModel() {
+                try {
+                    valueProperty.set(Long.parseLong(control.getText()));
+                } catch (NumberFormatException e) {
+                    // keep the last valid value
+                }
+            }
+
+            @Override
+            void writeControl() {
+                control.setText(Long.toString(valueProperty.get()));
+            }
+        });
+
+        return gridForm.end(measurement, control(control));
+    }
+
+    private static String toText(double value) {
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            return Long.toString((long) value);
+        }
+        return Double.toString(value);
     }
 
     public ControlRowBuilder<PasswordField> passwordField(StringProperty textProperty) {
-        PasswordField control = new PasswordField();
-        control.textProperty().bindBidirectional(textProperty);
+        GridFormMetrics.Measurement measurement = beginFactory("passwordField");
+        PasswordField control = gridForm.acquire(PasswordField.class, PasswordField::new);
+        gridForm.bindBidirectional(control.textProperty(), textProperty);
 
-        return control(control);
+        return gridForm.end(measurement, control(control));
     }
 
     public <T> ControlRowBuilder<PasswordField> passwordField(Property<T> textProperty, Format format) {
-        PasswordField control = new PasswordField();
-        control.textProperty().bindBidirectional(textProperty, format);
+        GridFormMetrics.Measurement measurement = beginFactory("passwordField");
+        PasswordField control = gridForm.acquire(PasswordField.class, PasswordField::new);
+        gridForm.bindBidirectional(control.textProperty(), textProperty, format);
+
+        return gridForm.end(measurement, control(control));
+    }
 
-        return control(control);
+    /**
+     * Adds a password field that writes the parsed text to the property only when the commit policy commits.
+     *
+     * @param textProperty the property
+     * @param format the format to convert between the text and the value of the property
+     * @param commitPolicy specifies when the text is written to the property
+     * @param <T> the type of the property value
+     * @return the builder of the password field
+     */
+    public <T> ControlRowBuilder<PasswordField> passwordField(Property<T> textProperty, Format format, CommitPolicy commitPolicy) {
+        GridFormMetrics.Measurement measurement = beginFactory("passwordField");
+        PasswordField control = gridForm.acquire(PasswordField.class, PasswordField::new);
+        gridForm.bindCommitted(control, textProperty, format, commitPolicy);
+
+        return gridForm.end(measurement, control(control));
     }
 
     public ControlRowBuilder<TextArea> textArea(String text) {
-        TextArea control = new TextArea(text);
+        GridFormMetrics.Measurement measurement = beginFactory("textArea");
+        TextArea control = gridForm.acquire(TextArea.class, TextArea::new);
+        control.setText(text);
 
-        return control(control);
+        return gridForm.end(measurement, control(control));
     }
 
     public ControlRowBuilder<TextArea> textArea(StringProperty textProperty) {
-        TextArea control = new TextArea();
-        control.textProperty().bindBidirectional(textProperty);
+        GridFormMetrics.Measurement measurement = beginFactory("textArea");
+        TextArea control = gridForm.acquire(TextArea.class, TextArea::new);
+        gridForm.bindBidirectional(control.textProperty(), textProperty);
 
-        return control(control);
+        return gridForm.end(measurement, control(control));
     }
 
-    public ControlRowBuilder<Slider> slider(Property<Number> valueProperty, double min, double max) {
+    public SliderRowBuilder slider(Property<Number> valueProperty, double min, double max) {
+        GridFormMetrics.Measurement measurement = beginFactory("slider");
         Slider control = new Slider(min, max, valueProperty.getValue().doubleValue());
-        control.valueProperty().bindBidirectional(valueProperty);
+        SliderCommit sliderCommit = new SliderCommit(control);
+        sliderCommit.setBinding(new PrimitiveBinding() {
+            @Override
+            void writeModel() {
+                if (sliderCommit.shouldCommit()) {
+                    valueProperty.setValue(control.getValue());
+                }
+            }
+
+            @Override
+            void writeControl() {
+                control.setValue(valueProperty.getValue().doubleValue());
+            }
+        });
+        gridForm.bindPrimitive(control.valueProperty(), valueProperty, sliderCommit.getBinding());
+
+        return gridForm.end(measurement, slider(control, sliderCommit));
+    }
+
+    public SliderRowBuilder slider(DoubleProperty valueProperty, double min, double max) {
+        GridFormMetrics.Measurement measurement = beginFactory("slider");
+        Slider control = new Slider(min, max, valueProperty.get());
+        SliderCommit sliderCommit = new SliderCommit(control);
+        sliderCommit.setBinding(new PrimitiveBinding() {
+            @Override
+            void writeModel() {
+                if (sliderCommit.shouldCommit()) {
+                    valueProperty.set(control.getValue());
+                }
+            }
+
+            @Override
+            void writeControl() {
+                control.setValue(valueProperty.get());
+            }
+        });
+        gridForm.bindPrimitive(control.valueProperty(), valueProperty, sliderCommit.getBinding());
 
-        return control(control);
+        return gridForm.end(measurement, slider(control, sliderCommit));
+    }
+
+    /**
+     * Adds a slider that snaps to whole numbers when its value is written to the property.
+     */
+    public SliderRowBuilder slider(IntegerProperty valueProperty, int min, int max) {
+        GridFormMetrics.Measurement measurement = beginFactory("slider");
+        Slider control = new Slider(min, max, valueProperty.get());
+        control.setBlockIncrement(1);
+        SliderCommit sliderCommit = new SliderCommit(control);
+        sliderCommit.setBinding(new PrimitiveBinding() {
+            @Override
+            void writeModel() {
+                if (sliderCommit.shouldCommit()) {
+                    int value = (int) Math.round(control.getValue());
+                    valueProperty.set(value);
+                    control.setValue(value);
+                }
+            }
+
+            @Override
+            void writeControl() {
+                control.setValue(valueProperty.get());
+            }
+        });
+        gridForm.bindPrimitive(control.valueProperty(), valueProperty, sliderCommit.getBinding());
+
+        return gridForm.end(measurement, slider(control, sliderCommit));
+    }
+
+    /**
+     * Adds a slider that snaps to whole numbers when its value is written to the property.
+     */
+    public SliderRowBuilder slider(LongProperty valueProperty, long min, long max) {
+        GridFormMetrics.Measurement measurement = beginFactory("slider");
+        Slider control = new Slider(min, max, valueProperty.get());
+        control.setBlockIncrement(1);
+        SliderCommit sliderCommit = new SliderCommit(control);
+        sliderCommit.setBinding(new PrimitiveBinding() {
+            @Override
+            void writeModel() {
+                if (sliderCommit.shouldCommit()) {
+                    long value = Math.round(control.getValue());
+                    valueProperty.set(value);
+                    control.setValue(value);
+                }
+            }
+
+            @Override
+            void writeControl() {
+                control.setValue(valueProperty.get());
+            }
+        });
+        gridForm.bindPrimitive(control.valueProperty(), valueProperty, sliderCommit.getBinding());
+
+        return gridForm.end(measurement, slider(control, sliderCommit));
+    }
+
+    private SliderRowBuilder slider(Slider control, SliderCommit sliderCommit) {
+        return region(control, new SliderRowBuilder(this, control, sliderCommit));
     }
 
     public ButtonRowBuilder button(String text) {
+        GridFormMetrics.Measurement measurement = beginFactory("button");
         Button control = new Button(text);
 
-        return node(control, new ButtonRowBuilder(this, control));
+        return gridForm.end(measurement, node(control, new ButtonRowBuilder(this, control)));
     }
 
     public ButtonRowBuilder button(StringProperty textProperty) {
+        GridFormMetrics.Measurement measurement = beginFactory("button");
         Button control = new Button();
-        control.textProperty().bindBidirectional(textProperty);
+        gridForm.bindBidirectional(control.textProperty(), textProperty);
 
-        return node(control, new ButtonRowBuilder(this, control));
+        return gridForm.end(measurement, node(control, new ButtonRowBuilder(this, control)));
     }
 
     public ControlRowBuilder<Button> button(String text, Node graphic) {
+        GridFormMetrics.Measurement measurement = beginFactory("button");
         Button control = new Button(text, graphic);
 
-        return control(control);
+        return gridForm.end(measurement, control(control));
     }
 
     public <T> ControlRowBuilder<ComboBox<T>> comboBox(Property<T> selectedElementProperty, T... elements) {
@@ -174,25 +442,114 @@ public class RowBuilder {
     }
 
     public <T> ControlRowBuilder<ComboBox<T>> comboBox(Property<T> selectedElementProperty, ListProperty<T> elementsProperty) {
-        ComboBox<T> control = new ComboBox<>();
-        Bindings.bindBidirectional(control.itemsProperty(), elementsProperty);
-        control.valueProperty().bindBidirectional(selectedElementProperty);
-        if (selectedElementProperty.getValue() == null && !elementsProperty.isEmpty()) {
-            selectedElementProperty.setValue(elementsProperty.get(0));
-        }
+        GridFormMetrics.Measurement measurement = beginFactory("comboBox");
+        ComboBox<T> control = gridForm.acquire(ComboBox.class, ComboBox::new);
+        gridForm.bindBidirectional(control.itemsProperty(), elementsProperty);
+        gridForm.bindBidirectional(control.valueProperty(), selectedElementProperty);
+        gridForm.activate(() -> {
+            if (selectedElementProperty.getValue() == null && !elementsProperty.isEmpty()) {
+                selectedElementProperty.setValue(elementsProperty.get(0));
+            }
+        });
 
-        return control(control);
+        return gridForm.end(measurement, control(control));
+    }
+
+    /**
+     * Adds an editable combo box whose items are loaded page by page from the specified provider.
+     *
+     * <p>The first page is loaded immediately, the next pages are loaded when the popup scrolls near the end of the loaded items.
+     * Typing into the combo box filters the items, the loaded items are discarded and the queries for the previous filter are cancelled.</p>
+     *
+     * <p>The provider runs on the specified executor, the JavaFX application thread never waits for it.</p>
+     *
+     * @param selectedElementProperty the selected element
+     * @param itemProvider the provider of the items
+     * @param executor the executor to run the provider on
+     * @param <T> the type of the elements
+     * @return the builder of the combo box
+     */
+    public <T> ControlRowBuilder<ComboBox<T>> comboBox(Property<T> selectedElementProperty, ItemProvider<T> itemProvider, Executor executor) {
+        GridFormMetrics.Measurement measurement = beginFactory("comboBox");
+        PagedItems<T> pagedItems = new PagedItems<>(itemProvider, executor, PAGE_SIZE);
+
+        ComboBox<T> control = new ComboBox<>(pagedItems.getItems());
+        control.setEditable(true);
+        control.setConverter(new StringConverter<T>() {
+            @Override
+            public String toString(T element) {
+                return element == null ? "" : String.valueOf(element);
+            }
+
+            @Override
+            public T fromString(String text) {
+                for (T element : pagedItems.getItems()) {
+                    if (toString(element).equals(text)) {
+                        return element;
+                    }
+                }
+                return control.getValue();
+            }
+        });
+        control.setCellFactory(listView -> new ListCell<T>() {
+            @Override
+            protected void updateItem(T element, boolean empty) {
+                super.updateItem(element, empty);
+                setText(empty || element == null ? null : String.valueOf(element));
+
+                if (!empty && getIndex() >= pagedItems.getItems().size() - PAGE_SIZE / 2) {
+                    pagedItems.loadNextPage();
+                }
+            }
+        });
+
+        // the value is synchronized with listeners instead of a binding,
+        // so that clearing the items while filtering neither resets the model nor the typed text
+        UpdateGuard guard = new UpdateGuard();
+        gridForm.activate(() -> control.setValue(selectedElementProperty.getValue()));
+        gridForm.addChangeListener(control.valueProperty(), (observable, oldValue, newValue) -> {
+            guard.run(() -> selectedElementProperty.setValue(newValue));
+        });
+        gridForm.addChangeListener(selectedElementProperty, (observable, oldValue, newValue) -> {
+            guard.run(() -> control.setValue(newValue));
+        });
+
+        TextField editor = control.getEditor();
+        gridForm.addChangeListener(editor.textProperty(), (observable, oldValue, newValue) -> {
+            if (editor.isFocused()
+                    && !guard.isActive()
+                    && !newValue.equals(control.getConverter().toString(control.getValue()))
+                    && !newValue.equals(pagedItems.getFilter())) {
+                T value = control.getValue();
+                int caretPosition = editor.getCaretPosition();
+                guard.run(() -> {
+                    pagedItems.filter(newValue);
+                    control.setValue(value);
+                    editor.setText(newValue);
+                    editor.positionCaret(caretPosition);
+                });
+                control.show();
+            }
+        });
+        gridForm.addDisposer(pagedItems::cancel);
+
+        gridForm.activate(pagedItems::loadNextPage);
+
+        return gridForm.end(measurement, control(control));
     }
 
     public <T> ControlRowBuilder<ChoiceBox<T>> choiceBox(Property<T> selectedElementProperty, ListProperty<T> elementsProperty) {
+        GridFormMetrics.Measurement measurement = beginFactory("choiceBox");
         ChoiceBox<T> control = new ChoiceBox<>();
-        Bindings.bindBidirectional(control.itemsProperty(), elementsProperty);
-        control.valueProperty().bindBidirectional(selectedElementProperty);
-        if (selectedElementProperty.getValue() == null && !elementsProperty.isEmpty()) {
-            selectedElementProperty.setValue(elementsProperty.get(0));
-        }
+        gridForm.bindBidirectional(control.itemsProperty(), elementsProperty);
+        gridForm.bindBidirectional(control.valueProperty(), selectedElementProperty);
+        gridForm.activate(() -> {
+            if (selectedElementProperty.getValue() == null && !elementsProperty.isEmpty()) {
+                selectedElementProperty.setValue(elementsProperty.get(0));
+            }
+        });
 
-        return control(control);
+        return gridForm.end(measurement, control(control));
     }
 
     public <T> ControlRowBuilder<ChoiceBox<T>> choiceBox(Property<T> selectedElementProperty, List<T> elements) {
@@ -210,30 +567,38 @@ public class RowBuilder {
     }
 
     public ControlRowBuilder<CheckBox> checkBox(String text, BooleanProperty booleanProperty) {
+        GridFormMetrics.Measurement measurement = beginFactory("checkBox");
         CheckBox control = new CheckBox(text);
-        Bindings.bindBidirectional(booleanProperty, control.selectedProperty());
+        gridForm.bindBidirectional(booleanProperty, control.selectedProperty());
 
-        return control(control);
+        return gridForm.end(measurement, control(control));
     }
 
     public <T> ControlRowBuilder<ListView<T>> listView(Property<T> selectedElementProperty, ListProperty<T> elementsProperty) {
+        GridFormMetrics.Measurement measurement = beginFactory("listView");
         ListView<T> control = new ListView<>();
-        Bindings.bindBidirectional(control.itemsProperty(), elementsProperty);
+        gridForm.bindBidirectional(control.itemsProperty(), elementsProperty);
 
-        control.getSelectionModel().selectedItemProperty().addListener((observable, oldValue, newValue) -> {
+        gridForm.addChangeListener(control.getSelectionModel().selectedItemProperty(), (observable, oldValue, newValue) -> {
+            GridFormMetrics.Measurement syncMeasurement = gridForm.beginSelectionSync("listView");
             selectedElementProperty.setValue(newValue);
+            gridForm.end(syncMeasurement);
         });
-        selectedElementProperty.addListener((observable, oldValue, newValue) -> {
+        gridForm.addChangeListener(selectedElementProperty, (observable, oldValue, newValue) -> {
+            GridFormMetrics.Measurement syncMeasurement = gridForm.beginSelectionSync("listView");
             control.getSelectionModel().select(newValue);
+            gridForm.end(syncMeasurement);
         });
 
-        if (selectedElementProperty.getValue() == null && !elementsProperty.isEmpty()) {
-            selectedElementProperty.setValue(elementsProperty.get(0));
-        } else {
-            control.getSelectionModel().select(selectedElementProperty.getValue());
-        }
+        gridForm.activate(() -> {
+            if (selectedElementProperty.getValue() == null && !elementsProperty.isEmpty()) {
+                selectedElementProperty.setValue(elementsProperty.get(0));
+            } else {
+                control.getSelectionModel().select(selectedElementProperty.getValue());
+            }
+        });
 
-        return control(control);
+        return gridForm.end(measurement, control(control));
     }
 
     public <T> ControlRowBuilder<ListView<T>> listView(Property<T> selectedElementProperty, List<T> elements) {
@@ -247,57 +612,239 @@ public class RowBuilder {
     }
 
     public <T> ControlRowBuilder<ListView<T>> listView(ListProperty<T> selectedElementsProperty, ListProperty<T> elementsProperty) {
+        GridFormMetrics.Measurement measurement = beginFactory("listView");
         ListView<T> control = new ListView<>();
-        Bindings.bindBidirectional(control.itemsProperty(), elementsProperty);
+        gridForm.bindBidirectional(control.itemsProperty(), elementsProperty);
 
-        control.getSelectionModel().setSelectionMode(SelectionMode.MULTIPLE);
+        MultipleSelectionModel<T> selectionModel = control.getSelectionModel();
+        selectionModel.setSelectionMode(SelectionMode.MULTIPLE);
 
-        control.getSelectionModel().clearSelection();
-        for (T selectedElement : selectedElementsProperty) {
-            control.getSelectionModel().select(selectedElement);
-        }
+        Map<T, Integer> elementIndexes = new HashMap<>();
+        indexElements(elementIndexes, elementsProperty);
+        gridForm.addListChangeListener(elementsProperty, c -> {
+            indexElements(elementIndexes, elementsProperty);
+        });
 
-        control.getSelectionModel().getSelectedItems().addListener(new ListChangeListener<>() {
-            @Override
-            public void onChanged(Change<? extends T> c) {
-                ObservableList<T> selectedItems = control.getSelectionModel().getSelectedItems();
-
-                Set<T> elementsRemaining = new HashSet<>(selectedElementsProperty);
-                Set<T> elementsToAdd = new HashSet<>();
-                for (T selectedItem : selectedItems) {
-                    if (elementsRemaining.contains(selectedItem)) {
-                        elementsRemaining.remove(selectedItem);
-                    } else {
-                        elementsToAdd.add(selectedItem);
+        Set<T> selectedElements = new HashSet<>(selectedElementsProperty);
+        UpdateGuard guard = new UpdateGuard();
+
+        gridForm.activate(() -> {
+            selectionModel.clearSelection();
+            selectIndices(selectionModel, indexesOf(elementIndexes, selectedElementsProperty));
+        });
+
+        gridForm.addListChangeListener(selectionModel.getSelectedItems(), c -> {
+            GridFormMetrics.Measurement syncMeasurement = gridForm.beginSelectionSync("listView");
+            guard.run(() -> {
+                Set<T> elementsToRemove = new HashSet<>();
+                List<T> elementsToAdd = new ArrayList<>();
+                while (c.next()) {
+                    if (c.wasRemoved()) {
+                        elementsToRemove.addAll(c.getRemoved());
+                    }
+                    if (c.wasAdded()) {
+                        for (T element : c.getAddedSubList()) {
+                            if (!elementsToRemove.remove(element) && !selectedElements.contains(element)) {
+                                elementsToAdd.add(element);
+                            }
+                        }
                     }
                 }
-                selectedElementsProperty.addAll(elementsToAdd);
-                selectedElementsProperty.removeAll(elementsRemaining);
+
+                elementsToRemove.removeIf(element -> {
+                    Integer index = elementIndexes.get(element);
+                    return !selectedElements.contains(element) || (index != null && selectionModel.isSelected(index));
+                });
+
+                if (!elementsToRemove.isEmpty()) {
+                    selectedElementsProperty.removeAll(elementsToRemove);
+                }
+                if (!elementsToAdd.isEmpty()) {
+                    selectedElementsProperty.addAll(elementsToAdd);
+                }
+            });
+            gridForm.end(syncMeasurement);
+        });
+
+        gridForm.addListChangeListener(selectedElementsProperty, c -> {
+            GridFormMetrics.Measurement syncMeasurement = gridForm.beginSelectionSync("listView");
+            List<T> removedElements = new ArrayList<>();
+            List<T> addedElements = new ArrayList<>();
+            while (c.next()) {
+                if (c.wasRemoved()) {
+                    removedElements.addAll(c.getRemoved());
+                }
+                if (c.wasAdded()) {
+                    addedElements.addAll(c.getAddedSubList());
+                }
             }
+            selectedElements.removeAll(removedElements);
+            selectedElements.addAll(addedElements);
+
+            guard.run(() -> {
+                if (selectedElements.isEmpty()) {
+                    selectionModel.clearSelection();
+                    return;
+                }
+
+                List<Integer> indexesToClear = new ArrayList<>();
+                for (T element : removedElements) {
+                    Integer index = elementIndexes.get(element);
+                    if (index != null && !selectedElements.contains(element) && selectionModel.isSelected(index)) {
+                        indexesToClear.add(index);
+                    }
+                }
+
+                if (indexesToClear.size() > selectionModel.getSelectedIndices().size() / 2) {
+                    // cheaper to rebuild the selection than to clear most of it index by index
+                    selectionModel.clearSelection();
+                    selectIndices(selectionModel, indexesOf(elementIndexes, selectedElements));
+                    return;
+                }
+
+                for (int index : indexesToClear) {
+                    selectionModel.clearSelection(index);
+                }
+
+                List<Integer> indexesToSelect = new ArrayList<>();
+                for (Integer index : indexesOf(elementIndexes, addedElements)) {
+                    if (!selectionModel.isSelected(index)) {
+                        indexesToSelect.add(index);
+                    }
+                }
+                selectIndices(selectionModel, indexesToSelect);
+            });
+            gridForm.end(syncMeasurement);
         });
 
-        selectedElementsProperty.addListener((observable, oldValue, newValue) -> {
-            MultipleSelectionModel<T> selectionModel = control.getSelectionModel();
+        return gridForm.end(measurement, control(control));
+    }
 
-            Set<T> selectionRemaining = new HashSet<>(selectionModel.getSelectedItems());
-            Set<T> selectionToAdd = new HashSet<>();
-            for (T element : newValue) {
-                if (selectionRemaining.contains(element)) {
-                    selectionRemaining.remove(element);
+    /**
+     * Adds a list view whose items are loaded page by page from the specified loader when they become visible.
+     *
+     * <p>Only the pages of the visible cells and their neighbouring pages are loaded, on the specified executor.
+     * The least recently used pages are evicted.
+     * Cells of items that are not loaded yet are empty until their page is loaded.
+     * If the loader throws, the page is loaded again when its cells are updated after a back-off delay,
+     * for example when the list view is scrolled.</p>
+     *
+     * <p>The selection is bound by index, so that it works independently of whether the selected item is loaded.</p>
+     *
+     * @param selectedIndexProperty the index of the selected item, -1 if no item is selected
+     * @param size the number of items
+     * @param pageLoader the loader of the items
+     * @param executor the executor to run the loader on
+     * @param <T> the type of the items
+     * @return the builder of the list view
+     */
+    public <T> ControlRowBuilder<ListView<T>> listView(IntegerProperty selectedIndexProperty, int size, PageLoader<T> pageLoader, Executor executor) {
+        GridFormMetrics.Measurement measurement = beginFactory("listView");
+        ListView<T> control = lazyListView(size, pageLoader, executor);
+
+        MultipleSelectionModel<T> selectionModel = control.getSelectionModel();
+        UpdateGuard guard = new UpdateGuard();
+
+        selectionModel.select(selectedIndexProperty.get());
+
+        gridForm.addChangeListener(selectionModel.selectedIndexProperty(), (observable, oldValue, newValue) -> {
+            GridFormMetrics.Measurement syncMeasurement = gridForm.beginSelectionSync("listView");
+            guard.run(() -> {
+                selectedIndexProperty.set(newValue.intValue());
+            });
+            gridForm.end(syncMeasurement);
+        });
+        gridForm.addChangeListener(selectedIndexProperty, (observable, oldValue, newValue) -> {
+            GridFormMetrics.Measurement syncMeasurement = gridForm.beginSelectionSync("listView");
+            guard.run(() -> {
+                if (newValue.intValue() < 0) {
+                    selectionModel.clearSelection();
                 } else {
-                    selectionToAdd.add(element);
+                    selectionModel.clearAndSelect(newValue.intValue());
                 }
-            }
+            });
+            gridForm.end(syncMeasurement);
+        });
 
-            for (T toAdd : selectionToAdd) {
-                selectionModel.select(toAdd);
-            }
-            for (T toRemove : selectionRemaining) {
-                selectionModel.clearSelection(elementsProperty.indexOf(toRemove));
-            }
+        return gridForm.end(measurement, control(control));
+    }
+
+    /**
+     * Adds a multiple selection list view whose items are loaded page by page from the specified loader when they become visible.
+     *
+     * <p>See {@link #listView(IntegerProperty, int, PageLoader, Executor)}.</p>
+     *
+     * @param selectedIndicesProperty the indices of the selected items
+     * @param size the number of items
+     * @param pageLoader the loader of the items
+     * @param executor the executor to run the loader on
+     * @param <T> the type of the items
+     * @return the builder of the list view
+     */
+    public <T> ControlRowBuilder<ListView<T>> listView(ListProperty<Integer> selectedIndicesProperty, int size, PageLoader<T> pageLoader, Executor executor) {
+        GridFormMetrics.Measurement measurement = beginFactory("listView");
+        ListView<T> control = lazyListView(size, pageLoader, executor);
+
+        MultipleSelectionModel<T> selectionModel = control.getSelectionModel();
+        selectionModel.setSelectionMode(SelectionMode.MULTIPLE);
+        UpdateGuard guard = new UpdateGuard();
+
+        selectIndices(selectionModel, selectedIndicesProperty);
+
+        gridForm.addListChangeListener(selectionModel.getSelectedIndices(), c -> {
+            GridFormMetrics.Measurement syncMeasurement = gridForm.beginSelectionSync("listView");
+            guard.run(() -> {
+                selectedIndicesProperty.setAll(selectionModel.getSelectedIndices());
+            });
+            gridForm.end(syncMeasurement);
         });
+        gridForm.addListChangeListener(selectedIndicesProperty, c -> {
+            GridFormMetrics.Measurement syncMeasurement = gridForm.beginSelectionSync("listView");
+            guard.run(() -> {
+                selectionModel.clearSelection();
+                selectIndices(selectionModel, selectedIndicesProperty);
+            });
+            gridForm.end(syncMeasurement);
+        });
+
+        return gridForm.end(measurement, control(control));
+    }
+
+    private <T> ListView<T> lazyListView(int size, PageLoader<T> pageLoader, Executor executor) {
+        LazyList<T> items = new LazyList<>(size, pageLoader, executor, PAGE_SIZE, LAZY_LIST_MAX_PAGES);
+        gridForm.addDisposer(items::cancel);
+
+        return new ListView<>(items);
+    }
+
+    private static <T> void indexElements(Map<T, Integer> elementIndexes, List<T> elements) {
+        elementIndexes.clear();
+        for (int i = 0; i < elements.size(); i++) {
+            elementIndexes.putIfAbsent(elements.get(i), i);
+        }
+    }
 
-        return control(control);
+    private static <T> List<Integer> indexesOf(Map<T, Integer> elementIndexes, Collection<T> elements) {
+        List<Integer> indexes = new ArrayList<>();
+        for (T element : elements) {
+            Integer index = elementIndexes.get(element);
+            if (index != null) {
+                indexes.add(index);
+            }
+        }
+        return indexes;
+    }
+
+    private static void selectIndices(MultipleSelectionModel<?> selectionModel, List<Integer> indexes) {
+        if (indexes.isEmpty()) {
+            return;
+        }
+
+        int[] otherIndexes = new int[indexes.size() - 1];
+        for (int i = 0; i < otherIndexes.length; i++) {
+            otherIndexes[i] = indexes.get(i + 1);
+        }
+        selectionModel.selectIndices(indexes.get(0), otherIndexes);
     }
 
     public <T> ControlRowBuilder<ListView<T>> listView(ListProperty<T> selectedElementsProperty, List<T> elements) {
@@ -329,7 +876,9 @@ public class RowBuilder {
     }
 
     public <T, P extends Region> RegionRowBuilder<P> radioButtons(P pane, BiConsumer<P, RadioButton> paneAdder, Property<T> selectedElementProperty, List<T> elementList) {
-        List<RadioButton> radioButtons = new ArrayList<>();
+        GridFormMetrics.Measurement measurement = beginFactory("radioButtons");
+        Map<T, RadioButton> elementRadioButtons = new HashMap<>();
+        UpdateGuard guard = new UpdateGuard();
 
         ToggleGroup toggleGroup = new ToggleGroup();
         for (T element : elementList) {
@@ -338,92 +887,129 @@ public class RowBuilder {
             radioButton.setUserData(element);
             paneAdder.accept(pane, radioButton);
 
-            if (element != null && element.equals(selectedElementProperty.getValue())) {
-                radioButton.setSelected(true);
-            }
+            elementRadioButtons.putIfAbsent(element, radioButton);
+        }
 
-            radioButtons.add(radioButton);
+        RadioButton selectedRadioButton = elementRadioButtons.get(selectedElementProperty.getValue());
+        if (selectedRadioButton != null && selectedElementProperty.getValue() != null) {
+            toggleGroup.selectToggle(selectedRadioButton);
         }
 
-        toggleGroup.selectedToggleProperty().addListener((observable, oldValue, newValue) -> {
+        gridForm.addChangeListener(toggleGroup.selectedToggleProperty(), (observable, oldValue, newValue) -> {
             if (newValue != null) {
-                T value = (T) newValue.getUserData();
-                selectedElementProperty.setValue(value);
+                GridFormMetrics.Measurement syncMeasurement = gridForm.beginSelectionSync("radioButtons");
+                guard.run(() -> {
+                    T value = (T) newValue.getUserData();
+                    selectedElementProperty.setValue(value);
+                });
+                gridForm.end(syncMeasurement);
             }
         });
-        selectedElementProperty.addListener((observable, oldValue, newValue) -> {
-            for (RadioButton radioButton : radioButtons) {
-                radioButton.setSelected(Objects.equals(newValue, radioButton.getUserData()));
-            }
+        gridForm.addChangeListener(selectedElementProperty, (observable, oldValue, newValue) -> {
+            GridFormMetrics.Measurement syncMeasurement = gridForm.beginSelectionSync("radioButtons");
+            guard.run(() -> {
+                toggleGroup.selectToggle(elementRadioButtons.get(newValue));
+            });
+            gridForm.end(syncMeasurement);
         });
 
-        return region(pane);
+        return gridForm.end(measurement, region(pane));
     }
 
-    public <T> RegionRowBuilder<VBox> checkBoxes(ListProperty<T> selectedElementsProperty, T... elements) {
+    public <T> CheckBoxesRowBuilder<T, VBox> checkBoxes(ListProperty<T> selectedElementsProperty, T... elements) {
         return checkBoxes(selectedElementsProperty, Arrays.asList(elements));
     }
 
-    public <T> RegionRowBuilder<VBox> checkBoxes(ListProperty<T> selectedElementsProperty, List<T> elements) {
+    public <T> CheckBoxesRowBuilder<T, VBox> checkBoxes(ListProperty<T> selectedElementsProperty, List<T> elements) {
         return checkBoxes(new VBox(), selectedElementsProperty, elements);
     }
 
-    public <T, P extends Pane> RegionRowBuilder<P> checkBoxes(P pane, ListProperty<T> selectedElementsProperty, T... elements) {
+    public <T, P extends Pane> CheckBoxesRowBuilder<T, P> checkBoxes(P pane, ListProperty<T> selectedElementsProperty, T... elements) {
         return checkBoxes(pane, selectedElementsProperty, Arrays.asList(elements));
     }
 
-    public <T, P extends Pane> RegionRowBuilder<P> checkBoxes(P pane, ListProperty<T> selectedElementsProperty, List<T> elements) {
+    public <T, P extends Pane> CheckBoxesRowBuilder<T, P> checkBoxes(P pane, ListProperty<T> selectedElementsProperty, List<T> elements) {
         return checkBoxes(pane, (pane2, checkbox) -> {
             pane2.getChildren().add(checkbox);
         }, selectedElementsProperty, elements);
     }
 
-    public <T, P extends Region> RegionRowBuilder<P> checkBoxes(P pane, BiConsumer<P, CheckBox> paneAdder, ListProperty<T> selectedElementsProperty, List<T> elements) {
-        List<CheckBox> checkBoxes = new ArrayList<>();
+    public <T, P extends Region> CheckBoxesRowBuilder<T, P> checkBoxes(P pane, BiConsumer<P, CheckBox> paneAdder, ListProperty<T> selectedElementsProperty, List<T> elements) {
+        GridFormMetrics.Measurement measurement = beginFactory("checkBoxes");
+        Map<T, List<CheckBox>> elementCheckBoxes = new HashMap<>();
+        Set<T> selectedElements = new HashSet<>(selectedElementsProperty);
+        UpdateGuard guard = new UpdateGuard();
+
         for (T element : elements) {
             CheckBox checkBox = new CheckBox(String.valueOf(element));
-            checkBox.setSelected(selectedElementsProperty.contains(element));
-            checkBox.selectedProperty().addListener((observable, oldValue, newValue) -> {
+            checkBox.setSelected(selectedElements.contains(element));
+            gridForm.addChangeListener(checkBox.selectedProperty(), (observable, oldValue, newValue) -> {
+                if (guard.isActive()) {
+                    return;
+                }
+
+                GridFormMetrics.Measurement syncMeasurement = gridForm.beginSelectionSync("checkBoxes");
                 if (newValue) {
-                    if (!selectedElementsProperty.contains(element)) {
+                    if (!selectedElements.contains(element)) {
                         selectedElementsProperty.add(element);
                     }
                 } else {
                     selectedElementsProperty.remove(element);
                 }
+                gridForm.end(syncMeasurement);
             });
             paneAdder.accept(pane, checkBox);
 
-            checkBoxes.add(checkBox);
+            elementCheckBoxes.computeIfAbsent(element, key -> new ArrayList<>()).add(checkBox);
         }
 
-        selectedElementsProperty.addListener(new ListChangeListener<T>() {
-            @Override
-            public void onChanged(Change<? extends T> c) {
-                Set<T> selectedElements = new HashSet<>(selectedElementsProperty);
-                for (int i = 0; i < elements.size(); i++) {
-                    T element = elements.get(i);
-                    CheckBox checkBox = checkBoxes.get(i);
-                    checkBox.setSelected(selectedElements.contains(element));
+        gridForm.addListChangeListener(selectedElementsProperty, c -> {
+            GridFormMetrics.Measurement syncMeasurement = gridForm.beginSelectionSync("checkBoxes");
+            Set<T> changedElements = new HashSet<>();
+            while (c.next()) {
+                if (c.wasRemoved()) {
+                    changedElements.addAll(c.getRemoved());
+                    selectedElements.removeAll(c.getRemoved());
+                }
+                if (c.wasAdded()) {
+                    changedElements.addAll(c.getAddedSubList());
+                    selectedElements.addAll(c.getAddedSubList());
                 }
             }
+
+            guard.run(() -> {
+                for (T element : changedElements) {
+                    List<CheckBox> checkBoxes = elementCheckBoxes.get(element);
+                    if (checkBoxes != null) {
+                        boolean selected = selectedElements.contains(element);
+                        for (CheckBox checkBox : checkBoxes) {
+                            checkBox.setSelected(selected);
+                        }
+                    }
+                }
+            });
+            gridForm.end(syncMeasurement);
         });
 
-        return region(pane);
+        return gridForm.end(measurement, region(pane, new CheckBoxesRowBuilder<>(this, pane, selectedElementsProperty, elements)));
     }
 
     public ControlRowBuilder<DatePicker> datePicker(ObjectProperty<LocalDate> dateProperty) {
-        DatePicker control = new DatePicker(dateProperty.get());
-        Bindings.bindBidirectional(dateProperty, control.valueProperty());
+        GridFormMetrics.Measurement measurement = beginFactory("datePicker");
+        DatePicker control = gridForm.acquire(DatePicker.class, DatePicker::new);
+        control.setValue(dateProperty.get());
+        gridForm.bindBidirectional(dateProperty, control.valueProperty());
 
-        return control(control);
+        return gridForm.end(measurement, control(control));
     }
 
     public ControlRowBuilder<ColorPicker> colorPicker(ObjectProperty<Color> colorProperty) {
-        ColorPicker control = new ColorPicker(colorProperty.get());
-        Bindings.bindBidirectional(colorProperty, control.valueProperty());
+        GridFormMetrics.Measurement measurement = beginFactory("colorPicker");
+        ColorPicker control = gridForm.acquire(ColorPicker.class, ColorPicker::new);
+        control.setValue(colorProperty.get());
+        gridForm.bindBidirectional(colorProperty, control.valueProperty());
 
-        return control(control);
+        return gridForm.end(measurement, control(control));
     }
 
     public static class NodeRowBuilder<T extends Node> extends RowBuilder {
@@ -477,6 +1063,136 @@ public class RowBuilder {
 
             this.control = control;
         }
+
+        /**
+         * Validates the specified value whenever it changes and marks the control with the result.
+         *
+         * <p>The validation is debounced and runs on the validation executor of the form, see {@link GridForm#validProperty()}.
+         * An invalid control has the pseudo class {@code :invalid} and shows the error message as tooltip.</p>
+         *
+         * @param value the value to validate
+         * @param validator the validator
+         * @param <V> the type of the value
+         * @return this builder
+         */
+        public final <V> ControlRowBuilder<T> validate(ObservableValue<V> value, Validator<? super V> validator) {
+            gridForm.enterRow(row);
+            gridForm.validate(control, value, validator);
+
+            return this;
+        }
+
+        /**
+         * Validates the text of the control whenever it changes and marks the control with the result.
+         *
+         * <p>The text is validated as typed, independently of whether it can be parsed into the bound property.</p>
+         *
+         * @param validator the validator
+         * @return this builder
+         * @throws IllegalStateException if the control is not a {@link TextInputControl}
+         */
+        public final ControlRowBuilder<T> validate(Validator<? super String> validator) {
+            if (!(control instanceof TextInputControl)) {
+                throw new IllegalStateException("Cannot validate the text of " + control.getClass().getSimpleName());
+            }
+
+            return validate(((TextInputControl) control).textProperty(), validator);
+        }
+    }
+
+    public static class CheckBoxesRowBuilder<E, T extends Region> extends RegionRowBuilder<T> {
+        private final ListProperty<E> selectedElementsProperty;
+        private final List<E> elements;
+
+        CheckBoxesRowBuilder(RowBuilder rowBuilder, T region, ListProperty<E> selectedElementsProperty, List<E> elements) {
+            super(rowBuilder, region);
+
+            this.selectedElementsProperty = selectedElementsProperty;
+            this.elements = elements;
+        }
+
+        /**
+         * Replaces the selection with the specified elements in a single update of the selected elements list.
+         */
+        public final CheckBoxesRowBuilder<E, T> select(Collection<? extends E> selectedElements) {
+            gridForm.activate(() -> selectedElementsProperty.setAll(selectedElements));
+
+            return this;
+        }
+
+        public final CheckBoxesRowBuilder<E, T> selectAll() {
+            return select(elements);
+        }
+
+        public final CheckBoxesRowBuilder<E, T> selectNone() {
+            gridForm.activate(selectedElementsProperty::clear);
+
+            return this;
+        }
+    }
+
+    public static class SliderRowBuilder extends ControlRowBuilder<Slider> {
+        private final SliderCommit sliderCommit;
+
+        SliderRowBuilder(RowBuilder rowBuilder, Slider slider, SliderCommit sliderCommit) {
+            super(rowBuilder, slider);
+
+            this.sliderCommit = sliderCommit;
+        }
+
+        /**
+         * Writes the value to the bound property only when the user stops dragging the slider.
+         *
+         * @see #commitOnRelease(Property, Duration)
+         */
+        public final SliderRowBuilder commitOnRelease() {
+            return commitOnRelease(null, null);
+        }
+
+        /**
+         * Writes the value to the bound property only when the user stops dragging the slider,
+         * while the preview property follows every intermediate value.
+         *
+         * @see #commitOnRelease(Property, Duration)
+         */
+        public final SliderRowBuilder commitOnRelease(Property<Number> previewProperty) {
+            return commitOnRelease(previewProperty, null);
+        }
+
+        /**
+         * Writes the value to the bound property only when the user stops dragging the slider.
+         *
+         * <p>While the slider is dragged ({@link Slider#isValueChanging()})
+         * the preview property follows every intermediate value,
+         * so that cheap feedback (for example a label) can be shown without recomputing the model.
+         * Changes that are not caused by dragging, for example with the keyboard, are written to the bound property immediately.</p>
+         *
+         * <p>Calling this method again replaces the preview property and the throttle of the previous call.</p>
+         *
+         * @param previewProperty the property that follows every intermediate value, or {@code null}
+         * @param throttle the minimum time between intermediate writes to the bound property while dragging,
+         *                 or {@code null} to write only when dragging ends
+         * @return this builder
+         */
+        public final SliderRowBuilder commitOnRelease(Property<Number> previewProperty, Duration throttle) {
+            gridForm.enterRow(row);
+            gridForm.activate(() -> {
+                boolean listening = sliderCommit.isCommitOnRelease();
+                sliderCommit.setCommitOnRelease(previewProperty, throttle);
+                if (listening) {
+                    return;
+                }
+
+                gridForm.addChangeListener(control.valueChangingProperty(), (observable, oldValue, newValue) -> {
+                    if (!newValue) {
+                        sliderCommit.commit();
+                    }
+                });
+                gridForm.addInvalidationListener(control.valueProperty(), observable -> sliderCommit.updatePreview());
+            });
+
+            return this;
+        }
     }
 
     public static class ButtonRowBuilder extends ControlRowBuilder<Button> {
@@ -0,0 +1,84 @@
+package ch.obermuhlner.javafx.gridform;
+
+import javafx.beans.property.Property;
+import javafx.scene.control.Slider;
+import javafx.util.Duration;
+
+/**
+ * Decides whether a change of the slider value is written to the bound property,
+ * see {@link RowBuilder.SliderRowBuilder#commitOnRelease(Property, Duration)}.
+ */
+class SliderCommit {
+    private final Slider slider;
+
+    private PrimitiveBinding binding;
+
+    private boolean commitOnRelease;
+    private Property<Number> previewProperty;
+    private long throttleNanos;
+    private long lastCommitNanos;
+
+    SliderCommit(Slider slider) {
+        this.slider = slider;
+    }
+
+    PrimitiveBinding getBinding() {
+        return binding;
+    }
+
+    void setBinding(PrimitiveBinding binding) {
+        this.binding = binding;
+    }
+
+    boolean isCommitOnRelease() {
+        return commitOnRelease;
+    }
+
+    /**
+     * Replaces the settings of a previous call.
+     */
+    void setCommitOnRelease(Property<Number> previewProperty, Duration throttle) {
+        this.commitOnRelease = true;
+        this.previewProperty = previewProperty;
+        this.throttleNanos = throttle == null ? Long.MAX_VALUE : (long) (throttle.toMillis() * 1000000);
+
+        updatePreview();
+    }
+
+    /**
+     * Copies the current value of the slider to the preview property,
+     * called for every change of the slider value, whether it is caused by dragging or by the bound property.
+     */
+    void updatePreview() {
+        if (previewProperty != null) {
+            previewProperty.setValue(slider.getValue());
+        }
+    }
+
+    /**
+     * Returns whether the current value of the slider is written to the bound property.
+     */
+    boolean shouldCommit() {
+        if (!commitOnRelease) {
+            return true;
+        }
+
+        if (!slider.isValueChanging()) {
+            return true;
+        }
+
+        long nanos = System.nanoTime();
+        if (throttleNanos != Long.MAX_VALUE && nanos - lastCommitNanos >= throttleNanos) {
+            lastCommitNanos = nanos;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Writes the current value of the slider to the bound property.
+     */
+    void commit() {
+        binding.invalidated(slider.valueProperty());
+    }
+}
@@ -0,0 +1,25 @@
+package ch.obermuhlner.javafx.gridform;
+
+/**
+ * Guards against feedback loops between two listeners that update each other.
+ */
+class UpdateGuard {
+    private boolean active;
+
+    boolean isActive() {
+        return active;
+    }
+
+    void run(Runnable runnable) {
+        if (active) {
+            return;
+        }
+
+        active = true;
+        try {
+            runnable.run();
+        } finally {
+            active = false;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package ch.obermuhlner.javafx.gridform;
+
+/**
+ * Validates the value of a form field.
+ *
+ * <p>The validator is called on the validation executor of the form (see {@link GridForm#setValidationExecutor(java.util.concurrent.Executor)}),
+ * not on the JavaFX application thread, so it may run expensive checks.</p>
+ *
+ * @param <T> the type of the validated value
+ * @see RowBuilder.ControlRowBuilder#validate(javafx.beans.value.ObservableValue, Validator)
+ */
+@FunctionalInterface
+public interface Validator<T> {
+
+    /**
+     * Validates the specified value.
+     *
+     * @param value the value to validate
+     * @return the error message, or {@code null} if the value is valid
+     */
+    String validate(T value);
+}
@@ -0,0 +1,109 @@
+package ch.obermuhlner.javafx.gridform;
+
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.ColumnConstraints;
+import javafx.scene.layout.GridPane;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Virtualized variant of {@link GridForm} for forms with a very large number of rows.
+ *
+ * <p>Rows are described by a {@link Consumer} that receives the same fluent {@link RowBuilder} API as {@link GridForm#row()}.
+ * The rows are shown in a {@link ListView} which recycles its cells,
+ * so only the rows currently visible in the viewport are materialized.</p>
+ *
+ * <p>Since rows that are not materialized cannot be measured, all columns have the fixed widths specified with {@link #columnWidths(double...)}.
+ * This keeps the columns aligned across all rows.</p>
+ *
+ * <p>When a cell is recycled for another row, the form of the previous row is disposed
+ * and its pooled controls (see {@link ControlPool}) are reused for the next row,
+ * so scrolling through rows of the same shape does not create new controls.</p>
+ */
+public class VirtualGridForm {
+
+    private static final int MAX_POOLED_CONTROLS_PER_CELL = 8;
+
+    private final ListView<Consumer<RowBuilder>> listView = new ListView<>();
+
+    private final List<Double> columnWidths = new ArrayList<>();
+    private double hgap = 0;
+    private int layoutVersion;
+
+    public VirtualGridForm() {
+        listView.setCellFactory(param -> new RowCell());
+    }
+
+    public ListView<Consumer<RowBuilder>> getListView() {
+        return listView;
+    }
+
+    public VirtualGridForm columnWidths(double... widths) {
+        columnWidths.clear();
+        for (double width : widths) {
+            columnWidths.add(width);
+        }
+        layoutVersion++;
+        listView.refresh();
+        return this;
+    }
+
+    public VirtualGridForm hgap(double hgap) {
+        this.hgap = hgap;
+        layoutVersion++;
+        listView.refresh();
+        return this;
+    }
+
+    public void row(Consumer<RowBuilder> rowFunction) {
+        listView.getItems().add(rowFunction);
+    }
+
+    public void emptyRow() {
+        row(row -> row.label(""));
+    }
+
+    private class RowCell extends ListCell<Consumer<RowBuilder>> {
+        private final GridPane gridPane = new GridPane();
+        private final GridForm gridForm = new GridForm(gridPane);
+        private int appliedLayoutVersion = -1;
+
+        RowCell() {
+            gridForm.setControlPool(new ControlPool(MAX_POOLED_CONTROLS_PER_CELL));
+        }
+
+        @Override
+        protected void updateItem(Consumer<RowBuilder> item, boolean empty) {
+            super.updateItem(item, empty);
+
+            gridForm.clear();
+
+            if (empty || item == null) {
+                setGraphic(null);
+                return;
+            }
+
+            if (appliedLayoutVersion != layoutVersion) {
+                applyLayout();
+            }
+
+            item.accept(gridForm.row());
+            setGraphic(gridPane);
+        }
+
+        private void applyLayout() {
+            gridPane.setHgap(hgap);
+            gridPane.getColumnConstraints().clear();
+            for (Double width : columnWidths) {
+                ColumnConstraints columnConstraints = new ColumnConstraints(width);
+                columnConstraints.setMinWidth(width);
+                columnConstraints.setMaxWidth(width);
+                gridPane.getColumnConstraints().add(columnConstraints);
+            }
+            appliedLayoutVersion = layoutVersion;
+        }
+    }
+}
@@ -32,6 +32,10 @@ public abstract class AbstractGridFormTest extends ApplicationTest {
 
     abstract protected void setup(GridForm gridForm);
 
+    protected Scene getScene() {
+        return scene;
+    }
+
     protected void snapshot(String name) {
         CountDownLatch countDownLatch = new CountDownLatch(1);
         Platform.runLater(() -> {
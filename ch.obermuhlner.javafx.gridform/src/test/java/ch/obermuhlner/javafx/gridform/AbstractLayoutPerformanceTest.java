@@ -0,0 +1,138 @@
+package ch.obermuhlner.javafx.gridform;
+
+import javafx.beans.value.ChangeListener;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import org.junit.Test;
+import org.testfx.util.WaitForAsyncUtils;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Measures the CSS pass duration, the layout pass duration
+ * and the number of pulses and layout passes triggered by a model update of the form built in {@link #setup(GridForm)}.
+ *
+ * <p>The measured metrics are compared against the stored baseline (see {@link LayoutPerformanceBaseline}).
+ * Run headless with {@code ./gradlew test -Pheadless}.</p>
+ */
+public abstract class AbstractLayoutPerformanceTest extends AbstractGridFormTest {
+
+    private static final int RUN_COUNT = 7;
+    private static final int PULSE_WINDOW_MILLIS = 500;
+
+    private static final String CSS_INVALIDATION_STYLE_CLASS = "layout-performance-test";
+
+    /**
+     * Returns the name of the measured form, used as prefix of the keys in the baseline file.
+     */
+    protected abstract String getFormName();
+
+    /**
+     * Updates the properties of the model bound to the measured form.
+     *
+     * <p>Called on the FX application thread.</p>
+     */
+    protected abstract void updateModel(int run);
+
+    @Test
+    public void testLayoutPerformance() {
+        // no caret animation of a focused text field should produce pulses
+        interact(() -> getScene().getRoot().requestFocus());
+        WaitForAsyncUtils.waitForFxEvents();
+
+        double[] cssMillis = new double[RUN_COUNT];
+        double[] layoutMillis = new double[RUN_COUNT];
+        double[] pulses = new double[RUN_COUNT];
+        double[] layoutPasses = new double[RUN_COUNT];
+
+        for (int run = 0; run < RUN_COUNT; run++) {
+            int currentRun = run;
+            interact(() -> {
+                cssMillis[currentRun] = measureCss();
+                layoutMillis[currentRun] = measureLayout();
+            });
+            int[] counts = measureUpdate(currentRun);
+            pulses[run] = counts[0];
+            layoutPasses[run] = counts[1];
+        }
+
+        Map<String, Double> metrics = new LinkedHashMap<>();
+        metrics.put("cssMillis", median(cssMillis));
+        metrics.put("layoutMillis", median(layoutMillis));
+        metrics.put(LayoutPerformanceBaseline.PULSES, median(pulses));
+        metrics.put(LayoutPerformanceBaseline.LAYOUT_PASSES, median(layoutPasses));
+
+        new LayoutPerformanceBaseline().check(getFormName(), metrics);
+    }
+
+    private double measureCss() {
+        Parent root = getScene().getRoot();
+
+        // a style class change of the root forces the CSS of the whole tree to be reapplied
+        root.getStyleClass().add(CSS_INVALIDATION_STYLE_CLASS);
+        long startNanos = System.nanoTime();
+        root.applyCss();
+        long nanos = System.nanoTime() - startNanos;
+
+        root.getStyleClass().remove(CSS_INVALIDATION_STYLE_CLASS);
+        root.applyCss();
+
+        return nanos / 1000000.0;
+    }
+
+    private double measureLayout() {
+        Parent root = getScene().getRoot();
+
+        requestLayout(root);
+        long startNanos = System.nanoTime();
+        root.layout();
+        long nanos = System.nanoTime() - startNanos;
+
+        return nanos / 1000000.0;
+    }
+
+    /**
+     * Returns the number of pulses and the number of layout passes of the root triggered by a model update.
+     */
+    private int[] measureUpdate(int run) {
+        int[] counts = new int[2];
+        Runnable pulseListener = () -> counts[0]++;
+        ChangeListener<Boolean> layoutListener = (observable, oldValue, newValue) -> {
+            if (!newValue) {
+                counts[1]++;
+            }
+        };
+
+        interact(() -> {
+            getScene().addPostLayoutPulseListener(pulseListener);
+            getScene().getRoot().needsLayoutProperty().addListener(layoutListener);
+        });
+        interact(() -> updateModel(run));
+        sleep(PULSE_WINDOW_MILLIS);
+        WaitForAsyncUtils.waitForFxEvents();
+        interact(() -> {
+            getScene().removePostLayoutPulseListener(pulseListener);
+            getScene().getRoot().needsLayoutProperty().removeListener(layoutListener);
+        });
+
+        return counts;
+    }
+
+    private static void requestLayout(Node node) {
+        if (node instanceof Parent) {
+            Parent parent = (Parent) node;
+            parent.requestLayout();
+            for (Node child : parent.getChildrenUnmodifiable()) {
+                requestLayout(child);
+            }
+        }
+    }
+
+    private static double median(double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}
@@ -0,0 +1,61 @@
+package ch.obermuhlner.javafx.gridform;
+
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import javafx.collections.ListChangeListener;
+import javafx.scene.Node;
+import javafx.scene.layout.GridPane;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class BatchTest extends AbstractGridFormTest {
+
+    private static final int ROW_COUNT = 1000;
+
+    private final StringProperty stringProperty = new SimpleStringProperty("Alpha");
+
+    private GridPane gridPane;
+    private int childrenChangeCount;
+
+    @Override
+    protected void setup(GridForm gridForm) {
+        gridPane = gridForm.getGridPane();
+        gridPane.getChildren().addListener((ListChangeListener<Node>) c -> childrenChangeCount++);
+
+        gridForm.batch(form -> buildRows(form));
+    }
+
+    private void buildRows(GridForm gridForm) {
+        for (int i = 0; i < ROW_COUNT; i++) {
+            gridForm.row()
+                    .label("Row " + i)
+                    .textField(stringProperty);
+        }
+    }
+
+    @Test
+    public void testSingleChildrenChange() {
+        assertEquals(1, childrenChangeCount);
+    }
+
+    @Test
+    public void testConstraints() {
+        assertEquals(ROW_COUNT * 2, gridPane.getChildren().size());
+        Node lastTextField = gridPane.getChildren().get(ROW_COUNT * 2 - 1);
+        assertEquals(Integer.valueOf(1), GridPane.getColumnIndex(lastTextField));
+        assertEquals(Integer.valueOf(ROW_COUNT - 1), GridPane.getRowIndex(lastTextField));
+    }
+
+    @Test
+    public void testPerNodeChildrenChanges() {
+        int[] changeCount = new int[1];
+        interact(() -> {
+            GridPane perNodeGridPane = new GridPane();
+            perNodeGridPane.getChildren().addListener((ListChangeListener<Node>) c -> changeCount[0]++);
+            buildRows(new GridForm(perNodeGridPane));
+        });
+
+        assertEquals(ROW_COUNT * 2, changeCount[0]);
+    }
+}
@@ -0,0 +1,129 @@
+package ch.obermuhlner.javafx.gridform;
+
+import javafx.application.Platform;
+import javafx.beans.property.ListProperty;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleListProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import javafx.collections.FXCollections;
+import javafx.scene.control.ListView;
+import javafx.scene.control.TextField;
+import javafx.scene.layout.GridPane;
+import org.junit.After;
+import org.junit.Test;
+import org.testfx.util.WaitForAsyncUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.*;
+
+public class BuildAsyncTest extends AbstractGridFormTest {
+
+    private static final int ROW_COUNT = 2000;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    private final StringProperty[] stringProperties = new StringProperty[ROW_COUNT];
+    private final ObjectProperty<String> choiceProperty = new SimpleObjectProperty<>();
+    private final ListProperty<String> selectedChoicesProperty = new SimpleListProperty<>(FXCollections.observableArrayList("b", "c"));
+
+    private final AtomicBoolean builtOnFxThread = new AtomicBoolean();
+    private final AtomicBoolean modelWrittenOffFxThread = new AtomicBoolean();
+
+    private GridForm gridForm;
+
+    @Override
+    protected void setup(GridForm gridForm) {
+        this.gridForm = gridForm;
+
+        gridForm.row()
+                .label("Header");
+
+        for (int i = 0; i < ROW_COUNT; i++) {
+            stringProperties[i] = new SimpleStringProperty("Value " + i);
+        }
+        choiceProperty.addListener((observable, oldValue, newValue) -> {
+            if (!Platform.isFxApplicationThread()) {
+                modelWrittenOffFxThread.set(true);
+            }
+        });
+    }
+
+    @After
+    public void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testBuildAsync() throws Exception {
+        List<CompletableFuture<GridForm>> futures = new ArrayList<>();
+        interact(() -> {
+            futures.add(gridForm.buildAsync(executor, form -> {
+                builtOnFxThread.set(Platform.isFxApplicationThread());
+                for (int i = 0; i < ROW_COUNT; i++) {
+                    form.row()
+                            .label("Field " + i)
+                            .textField(stringProperties[i]);
+                }
+                form.row()
+                        .label("Choice")
+                        .comboBox(choiceProperty, "a", "b", "c");
+            }));
+        });
+
+        GridForm result = futures.get(0).get(10, TimeUnit.SECONDS);
+        WaitForAsyncUtils.waitForFxEvents();
+
+        assertSame(gridForm, result);
+        assertFalse(builtOnFxThread.get());
+        assertFalse(modelWrittenOffFxThread.get());
+        assertEquals("a", choiceProperty.get());
+
+        GridPane gridPane = gridForm.getGridPane();
+        assertEquals(1 + 2 * (ROW_COUNT + 1), gridPane.getChildren().size());
+
+        TextField textField = (TextField) gridPane.getChildren().get(2);
+        assertEquals(Integer.valueOf(1), GridPane.getRowIndex(textField));
+        assertEquals("Value 0", textField.getText());
+
+        interact(() -> stringProperties[0].set("Changed"));
+        assertEquals("Changed", textField.getText());
+
+        interact(() -> gridForm.row().label("Footer"));
+        assertEquals(Integer.valueOf(ROW_COUNT + 2), GridPane.getRowIndex(gridPane.getChildren().get(gridPane.getChildren().size() - 1)));
+    }
+
+    @Test
+    public void testBuildAsyncListViewSelection() throws Exception {
+        List<CompletableFuture<GridForm>> futures = new ArrayList<>();
+        List<ListView<String>> listViews = new ArrayList<>();
+        interact(() -> {
+            futures.add(gridForm.buildAsync(executor, form -> {
+                form.row()
+                        .label("Choices")
+                        .listView(selectedChoicesProperty, "a", "b", "c")
+                        .with(listViews::add);
+            }));
+        });
+
+        futures.get(0).get(10, TimeUnit.SECONDS);
+        WaitForAsyncUtils.waitForFxEvents();
+
+        ListView<String> listView = listViews.get(0);
+        assertEquals(Arrays.asList("a", "b", "c"), listView.getItems());
+        assertEquals(Arrays.asList(1, 2), new ArrayList<>(listView.getSelectionModel().getSelectedIndices()));
+        assertEquals(Arrays.asList("b", "c"), new ArrayList<>(selectedChoicesProperty));
+
+        interact(() -> listView.getSelectionModel().clearSelection(1));
+        assertEquals(Arrays.asList("c"), new ArrayList<>(selectedChoicesProperty));
+    }
+}
@@ -0,0 +1,67 @@
+package ch.obermuhlner.javafx.gridform;
+
+import javafx.beans.property.ListProperty;
+import javafx.beans.property.SimpleListProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.scene.control.CheckBox;
+import javafx.scene.layout.VBox;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class CheckBoxesTest extends AbstractGridFormTest {
+
+    private final ListProperty<String> selectedElementsProperty = new SimpleListProperty<>(FXCollections.observableArrayList("Beta"));
+
+    private RowBuilder.CheckBoxesRowBuilder<String, VBox> checkBoxesRowBuilder;
+
+    @Override
+    protected void setup(GridForm gridForm) {
+        checkBoxesRowBuilder = gridForm.row()
+                .label("CheckBox")
+                .checkBoxes(selectedElementsProperty, "Alpha", "Beta", "Gamma");
+    }
+
+    private CheckBox checkBox(int index) {
+        return (CheckBox) checkBoxesRowBuilder.region.getChildren().get(index);
+    }
+
+    @Test
+    public void testInitialSelection() {
+        assertFalse(checkBox(0).isSelected());
+        assertTrue(checkBox(1).isSelected());
+        assertFalse(checkBox(2).isSelected());
+    }
+
+    @Test
+    public void testToggle() {
+        clickOn(checkBox(0));
+        assertEquals(Arrays.asList("Beta", "Alpha"), selectedElementsProperty.get());
+
+        clickOn(checkBox(1));
+        assertEquals(Arrays.asList("Alpha"), selectedElementsProperty.get());
+    }
+
+    @Test
+    public void testSelectAllSelectNone() {
+        int[] changeCount = new int[1];
+        selectedElementsProperty.addListener((ListChangeListener<String>) c -> changeCount[0]++);
+
+        interact(() -> checkBoxesRowBuilder.selectAll());
+        assertEquals(1, changeCount[0]);
+        assertTrue(checkBox(0).isSelected());
+        assertTrue(checkBox(1).isSelected());
+        assertTrue(checkBox(2).isSelected());
+
+        interact(() -> checkBoxesRowBuilder.selectNone());
+        assertEquals(2, changeCount[0]);
+        assertFalse(checkBox(0).isSelected());
+        assertFalse(checkBox(1).isSelected());
+        assertFalse(checkBox(2).isSelected());
+    }
+}
@@ -0,0 +1,85 @@
+package ch.obermuhlner.javafx.gridform;
+
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.event.ActionEvent;
+import javafx.scene.control.TextField;
+import javafx.util.Duration;
+import org.junit.Test;
+import org.testfx.util.WaitForAsyncUtils;
+
+import static org.junit.Assert.assertEquals;
+
+public class CommitPolicyTest extends AbstractGridFormTest {
+
+    private final DoubleProperty enterProperty = new SimpleDoubleProperty(1.0);
+    private final DoubleProperty idleProperty = new SimpleDoubleProperty(2.0);
+
+    private int enterChangeCount;
+    private int idleChangeCount;
+
+    private TextField enterTextField;
+    private TextField idleTextField;
+
+    @Override
+    protected void setup(GridForm gridForm) {
+        gridForm.row()
+                .label("Enter")
+                .textField(enterProperty, GridForm.DOUBLE_FORMAT, CommitPolicy.ON_ENTER)
+                .with(textField -> enterTextField = textField);
+        gridForm.row()
+                .label("Idle")
+                .textField(idleProperty, GridForm.DOUBLE_FORMAT, CommitPolicy.onIdle(Duration.millis(100)))
+                .with(textField -> idleTextField = textField);
+
+        enterProperty.addListener((observable, oldValue, newValue) -> enterChangeCount++);
+        idleProperty.addListener((observable, oldValue, newValue) -> idleChangeCount++);
+    }
+
+    @Test
+    public void testCommitOnEnter() {
+        interact(() -> {
+            enterTextField.setText("1");
+            enterTextField.setText("12");
+            enterTextField.setText("123");
+        });
+        assertEquals(1.0, enterProperty.get(), 0.0);
+        assertEquals(0, enterChangeCount);
+
+        interact(() -> enterTextField.fireEvent(new ActionEvent()));
+        assertEquals(123.0, enterProperty.get(), 0.0);
+        assertEquals(1, enterChangeCount);
+    }
+
+    @Test
+    public void testCommitOnIdle() {
+        interact(() -> {
+            for (int i = 1; i <= 100; i++) {
+                idleTextField.setText(String.valueOf(i));
+            }
+        });
+        assertEquals(0, idleChangeCount);
+
+        sleep(300);
+        WaitForAsyncUtils.waitForFxEvents();
+
+        assertEquals(100.0, idleProperty.get(), 0.0);
+        assertEquals(1, idleChangeCount);
+    }
+
+    @Test
+    public void testInvalidTextNotCommitted() {
+        interact(() -> {
+            enterTextField.setText("abc");
+            enterTextField.fireEvent(new ActionEvent());
+        });
+        assertEquals(1.0, enterProperty.get(), 0.0);
+        assertEquals("abc", enterTextField.getText());
+    }
+
+    @Test
+    public void testModelChangeShownImmediately() {
+        interact(() -> enterProperty.set(42));
+        assertEquals("42", enterTextField.getText());
+    }
+}
@@ -0,0 +1,70 @@
+package ch.obermuhlner.javafx.gridform;
+
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import javafx.scene.control.DatePicker;
+import javafx.scene.control.TextField;
+import javafx.scene.layout.GridPane;
+import org.junit.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class ControlPoolTest extends AbstractGridFormTest {
+
+    private final ControlPool controlPool = new ControlPool();
+
+    private final StringProperty stringProperty = new SimpleStringProperty("Alpha");
+    private final ObjectProperty<LocalDate> dateProperty = new SimpleObjectProperty<>(LocalDate.of(2000, 1, 1));
+
+    @Override
+    protected void setup(GridForm gridForm) {
+    }
+
+    private void buildForm(GridForm gridForm, StringProperty textProperty, ObjectProperty<LocalDate> dateProperty) {
+        gridForm.row()
+                .label("TextField")
+                .textField(textProperty);
+        gridForm.row()
+                .label("DatePicker")
+                .datePicker(dateProperty);
+    }
+
+    @Test
+    public void testRecycleOnClear() {
+        interact(() -> {
+            GridForm gridForm = new GridForm(new GridPane());
+            gridForm.setControlPool(controlPool);
+
+            buildForm(gridForm, stringProperty, dateProperty);
+            TextField textField = (TextField) gridForm.getGridPane().getChildren().get(1);
+            DatePicker datePicker = (DatePicker) gridForm.getGridPane().getChildren().get(3);
+            assertEquals(0, controlPool.getHitCount());
+            assertEquals(2, controlPool.getMissCount());
+
+            gridForm.clear();
+            assertEquals(0, gridForm.getGridPane().getChildren().size());
+            assertEquals(2, controlPool.getPooledControlCount());
+            assertEquals("Alpha", stringProperty.get());
+            assertEquals(LocalDate.of(2000, 1, 1), dateProperty.get());
+
+            StringProperty otherStringProperty = new SimpleStringProperty("Beta");
+            ObjectProperty<LocalDate> otherDateProperty = new SimpleObjectProperty<>(LocalDate.of(2010, 1, 1));
+            buildForm(gridForm, otherStringProperty, otherDateProperty);
+            assertSame(textField, gridForm.getGridPane().getChildren().get(1));
+            assertSame(datePicker, gridForm.getGridPane().getChildren().get(3));
+            assertEquals("Beta", textField.getText());
+            assertEquals(LocalDate.of(2010, 1, 1), datePicker.getValue());
+            assertEquals(2, controlPool.getHitCount());
+            assertEquals(0.5, controlPool.getHitRate(), 0.0);
+
+            textField.setText("Gamma");
+            assertEquals("Gamma", otherStringProperty.get());
+            assertEquals("Alpha", stringProperty.get());
+        });
+    }
+}
@@ -0,0 +1,102 @@
+package ch.obermuhlner.javafx.gridform;
+
+import ch.obermuhlner.javafx.gridform.TestModel.Animal;
+import javafx.beans.property.*;
+import javafx.collections.FXCollections;
+import javafx.scene.control.Label;
+import javafx.scene.layout.GridPane;
+import org.junit.Test;
+
+import java.lang.ref.WeakReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class DisposeTest extends AbstractGridFormTest {
+
+    private static final int FORM_COUNT = 10000;
+    private static final long MAX_HEAP_GROWTH_BYTES = 16 * 1024 * 1024;
+
+    private final StringProperty stringProperty = new SimpleStringProperty("Alpha");
+    private final DoubleProperty doubleProperty = new SimpleDoubleProperty(Math.PI);
+    private final ObjectProperty<Animal> animalProperty = new SimpleObjectProperty<>(Animal.Cat);
+    private final ListProperty<Animal> selectedAnimalListProperty = new SimpleListProperty<>(FXCollections.observableArrayList());
+
+    @Override
+    protected void setup(GridForm gridForm) {
+    }
+
+    private GridForm buildForm() {
+        GridForm gridForm = new GridForm(new GridPane());
+        gridForm.row()
+                .label("Label")
+                .label(stringProperty)
+                .textField(doubleProperty, GridForm.DOUBLE_FORMAT);
+        TestModel.animalSelectionRows(gridForm, animalProperty, selectedAnimalListProperty);
+        return gridForm;
+    }
+
+    @Test
+    public void testDisposeUnbinds() {
+        interact(() -> {
+            GridForm gridForm = new GridForm(new GridPane());
+            Label label = gridForm.row()
+                    .label(stringProperty)
+                    .control;
+
+            stringProperty.set("Beta");
+            assertEquals("Beta", label.getText());
+
+            gridForm.dispose();
+
+            stringProperty.set("Gamma");
+            assertEquals("Beta", label.getText());
+        });
+    }
+
+    @Test
+    public void testDisposedFormCollectable() {
+        @SuppressWarnings("unchecked")
+        WeakReference<GridPane>[] reference = new WeakReference[1];
+        interact(() -> {
+            GridForm gridForm = buildForm();
+            reference[0] = new WeakReference<>(gridForm.getGridPane());
+            gridForm.dispose();
+        });
+
+        for (int i = 0; i < 10 && reference[0].get() != null; i++) {
+            System.gc();
+            sleep(50);
+        }
+        assertNull(reference[0].get());
+    }
+
+    @Test
+    public void testHeapStaysFlat() {
+        buildAndDisposeForms(FORM_COUNT / 10);
+        long usedBefore = usedHeap();
+
+        buildAndDisposeForms(FORM_COUNT);
+        long usedAfter = usedHeap();
+
+        long growth = usedAfter - usedBefore;
+        assertTrue("heap growth " + growth + " bytes", growth < MAX_HEAP_GROWTH_BYTES);
+    }
+
+    private void buildAndDisposeForms(int count) {
+        interact(() -> {
+            for (int i = 0; i < count; i++) {
+                buildForm().dispose();
+            }
+        });
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,115 @@
+package ch.obermuhlner.javafx.gridform;
+
+import ch.obermuhlner.javafx.gridform.TestModel.Animal;
+import javafx.beans.property.*;
+import javafx.collections.FXCollections;
+import javafx.scene.layout.HBox;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+
+import java.time.LocalDate;
+
+/**
+ * Layout performance of the rows of all {@code ExampleApp} tabs, repeated 10 times in one form.
+ */
+public class ExampleAppLayoutPerformanceTest extends AbstractLayoutPerformanceTest {
+
+    private static final int SCALE = 10;
+
+    private final StringProperty stringProperty = new SimpleStringProperty("StringProperty");
+    private final IntegerProperty integerProperty = new SimpleIntegerProperty(1234);
+    private final DoubleProperty doubleProperty = new SimpleDoubleProperty(Math.PI);
+    private final BooleanProperty booleanProperty = new SimpleBooleanProperty();
+    private final ObjectProperty<Animal> animalProperty = new SimpleObjectProperty<>();
+    private final ListProperty<String> selectedStringListProperty = new SimpleListProperty<>(FXCollections.observableArrayList("a", "b"));
+    private final ObjectProperty<LocalDate> dateProperty = new SimpleObjectProperty<>(LocalDate.of(2000, 1, 1));
+    private final ObjectProperty<Color> colorProperty = new SimpleObjectProperty<>(Color.PEACHPUFF);
+
+    @Override
+    protected String getFormName() {
+        return "exampleApp";
+    }
+
+    @Override
+    protected void setup(GridForm gridForm) {
+        gridForm.getGridPane().setHgap(4);
+        gridForm.getGridPane().setVgap(4);
+
+        ListProperty<String> stringListProperty = new SimpleListProperty<>(FXCollections.observableArrayList(
+                "a", "b", "c", "x", "y", "z", "Just a long string"));
+        ListProperty<Animal> animalListProperty = new SimpleListProperty<>(FXCollections.observableArrayList(
+                Animal.values()));
+
+        gridForm.batch(form -> {
+            for (int i = 0; i < SCALE; i++) {
+                // Fluent
+                form.row().label("Label").label(stringProperty);
+                form.row().label("Label").empty().label("Cells can be empty");
+                form.row().label("Button").button("Click me").label(integerProperty, GridForm.INTEGER_FORMAT);
+                form.row().label("TextField").textField(stringProperty);
+                form.row().label("TextField").textField(doubleProperty, GridForm.DOUBLE_FORMAT);
+                form.row().label("PasswordField").passwordField(stringProperty);
+                form.row()
+                        .label("Slider")
+                        .slider(doubleProperty, 0, 10)
+                        .with(slider -> {
+                            slider.setShowTickMarks(true);
+                            slider.setShowTickLabels(true);
+                            slider.setMajorTickUnit(1.0);
+                            slider.setMinorTickCount(10);
+                        })
+                        .label(doubleProperty, GridForm.DOUBLE_FORMAT);
+                form.row().label("ComboBox").comboBox(animalProperty, animalListProperty).fill();
+
+                // Simple
+                form.row().label("Label").label(doubleProperty, GridForm.DOUBLE_FORMAT);
+                form.emptyRow();
+                form.row().label("Button").button("OK", new Rectangle(20, 20));
+                form.row().label("CheckBox").checkBox("Property", booleanProperty);
+
+                // Choices
+                form.row().label("ComboBox").comboBox(stringProperty, stringListProperty);
+                form.row().label("ComboBox").comboBox(integerProperty, 1, 2, 3);
+                form.row().label("ChoiceBox").choiceBox(animalProperty, Animal.values());
+                form.row().label("RadioButton").radioButtons(animalProperty, Animal.values());
+                form.row().label("RadioButton").radioButtons(new HBox(), animalProperty, Animal.values());
+
+                // Lists (Single Selection)
+                form.row().label("ListView")
+                        .listView(animalProperty, animalListProperty)
+                        .with(listView -> listView.setPrefHeight(24 * 4));
+
+                // Lists (Multi Selection)
+                form.row().label("ListView")
+                        .listView(selectedStringListProperty, stringListProperty)
+                        .with(listView -> listView.setPrefHeight(24 * 8));
+                form.row().label("CheckBox").checkBoxes(selectedStringListProperty, stringListProperty);
+                form.row().label("CheckBox").checkBoxes(new HBox(), selectedStringListProperty, stringListProperty);
+
+                // Misc
+                form.row().label("DatePicker").datePicker(dateProperty);
+                form.row().label("ColorPicker").colorPicker(colorProperty);
+                form.row().label("Node").node(new Rectangle(20, 20));
+
+                // Examples 1
+                form.row().label("TextArea").textArea(stringProperty);
+            }
+        });
+    }
+
+    @Override
+    protected void updateModel(int run) {
+        stringProperty.set("Run " + run);
+        integerProperty.set(run);
+        doubleProperty.set(run % 10);
+        booleanProperty.set(run % 2 == 0);
+        animalProperty.set(Animal.values()[run % Animal.values().length]);
+        dateProperty.set(dateProperty.get().plusDays(1));
+        colorProperty.set(run % 2 == 0 ? Color.PEACHPUFF : Color.LIGHTBLUE);
+        if (run % 2 == 0) {
+            selectedStringListProperty.add("x");
+        } else {
+            selectedStringListProperty.remove("x");
+        }
+    }
+}
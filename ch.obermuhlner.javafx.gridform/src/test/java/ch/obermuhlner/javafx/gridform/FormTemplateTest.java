@@ -0,0 +1,79 @@
+package ch.obermuhlner.javafx.gridform;
+
+import ch.obermuhlner.javafx.gridform.TestModel.Animal;
+import ch.obermuhlner.javafx.gridform.TestModel.Pet;
+import javafx.scene.control.TextField;
+import javafx.scene.layout.GridPane;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class FormTemplateTest extends AbstractGridFormTest {
+
+    private final FormTemplate<Pet> template = new FormTemplate<>();
+
+    private final Pet fido = new Pet("Fido");
+    private final Pet tom = new Pet("Tom");
+
+    private GridPane gridPane;
+
+    @Override
+    protected void setup(GridForm gridForm) {
+        template.row()
+                .label("Name")
+                .textField(Pet::nameProperty);
+        template.row()
+                .label("Weight")
+                .textField(Pet::weightProperty, GridForm.DOUBLE_FORMAT);
+        template.row()
+                .label("Animal")
+                .comboBox(Pet::animalProperty, Animal.values());
+        template.row()
+                .label("Friends")
+                .checkBoxes(Pet::friendsProperty, Animal.values());
+
+        gridPane = gridForm.getGridPane();
+        template.instantiate(gridForm, fido);
+        template.instantiate(gridForm, tom);
+    }
+
+    @Test
+    public void testInstancesBoundToTheirModel() {
+        TextField fidoName = (TextField) gridPane.getChildren().get(1);
+        TextField tomName = (TextField) gridPane.getChildren().get(9);
+
+        assertEquals("Fido", fidoName.getText());
+        assertEquals("Tom", tomName.getText());
+        assertEquals(Animal.Dog, fido.animalProperty().get());
+
+        interact(() -> tom.nameProperty().set("Jerry"));
+        assertEquals("Fido", fidoName.getText());
+        assertEquals("Jerry", tomName.getText());
+    }
+
+    @Test
+    public void testSameNodesAsAdHoc() {
+        interact(() -> {
+            GridForm adHocForm = new GridForm(new GridPane());
+            adHocForm.row()
+                    .label("Name")
+                    .textField(fido.nameProperty());
+            adHocForm.row()
+                    .label("Weight")
+                    .textField(fido.weightProperty(), GridForm.DOUBLE_FORMAT);
+            adHocForm.row()
+                    .label("Animal")
+                    .comboBox(fido.animalProperty(), Animal.values());
+            adHocForm.row()
+                    .label("Friends")
+                    .checkBoxes(fido.friendsProperty(), Animal.values());
+
+            assertEquals(adHocForm.getGridPane().getChildren().size() * 2, gridPane.getChildren().size());
+        });
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testWithOnEmptyRow() {
+        new FormTemplate<Pet>().row().with(node -> {});
+    }
+}
@@ -0,0 +1,76 @@
+package ch.obermuhlner.javafx.gridform;
+
+import javafx.beans.property.ListProperty;
+import javafx.beans.property.SimpleListProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import javafx.collections.FXCollections;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class GridFormMetricsTest extends AbstractGridFormTest {
+
+    private final StringProperty stringProperty = new SimpleStringProperty("a");
+    private final ListProperty<String> selectedStringsProperty = new SimpleListProperty<>(FXCollections.observableArrayList());
+
+    private final GridFormMetrics metrics = new GridFormMetrics("metricsTest");
+
+    @Override
+    protected void setup(GridForm gridForm) {
+        gridForm.setMetrics(metrics);
+
+        gridForm.row()
+                .label("Text")
+                .textField(stringProperty);
+        gridForm.row()
+                .label("Strings")
+                .checkBoxes(selectedStringsProperty, "a", "b", "c");
+    }
+
+    @Test
+    public void testCounts() {
+        assertEquals(2, metrics.getRowCount());
+        assertEquals(4, metrics.getNodeCount());
+        assertEquals(1, metrics.getBindingCount());
+        assertEquals(4, metrics.getListenerCount());
+
+        assertEquals(2, metrics.getFactoryTimings().get("label").getCount());
+        assertEquals(1, metrics.getFactoryTimings().get("textField").getCount());
+        assertEquals(1, metrics.getFactoryTimings().get("checkBoxes").getCount());
+    }
+
+    @Test
+    public void testSelectionSyncTiming() {
+        interact(() -> selectedStringsProperty.add("b"));
+
+        GridFormMetrics.Timing timing = metrics.getSelectionSyncTimings().get("checkBoxes");
+        assertEquals(1, timing.getCount());
+        assertTrue(timing.getMaxNanos() > 0);
+        assertEquals(timing.getTotalNanos(), timing.getMaxNanos());
+        assertEquals(timing.getTotalNanos(), timing.getAverageNanos(), 0.0);
+    }
+
+    @Test
+    public void testConcurrentRecording() throws InterruptedException {
+        GridFormMetrics concurrentMetrics = new GridFormMetrics("concurrentTest");
+
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 10000; j++) {
+                    concurrentMetrics.rowCreated();
+                    concurrentMetrics.beginFactory("label").end();
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(40000, concurrentMetrics.getRowCount());
+        assertEquals(40000, concurrentMetrics.getFactoryTimings().get("label").getCount());
+    }
+}
@@ -0,0 +1,112 @@
+package ch.obermuhlner.javafx.gridform;
+
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.junit.Assert.fail;
+
+/**
+ * Compares the metrics measured by {@link AbstractLayoutPerformanceTest} against the stored baseline file.
+ *
+ * <p>The count metrics (pulses and layout passes) are deterministic and must have a baseline,
+ * a count metric without baseline fails the test unless the baseline is updated.
+ * The time metrics depend on the machine and are only checked if a baseline was measured on the build agent.</p>
+ */
+class LayoutPerformanceBaseline {
+
+    static final String PULSES = "pulses";
+    static final String LAYOUT_PASSES = "layoutPasses";
+
+    private static final String BASELINE_RESOURCE = "/layout-performance-baseline.properties";
+    private static final String SYSTEM_PROPERTY_PREFIX = "layoutPerformance.";
+
+    private final Properties baseline = new Properties();
+
+    LayoutPerformanceBaseline() {
+        try (InputStream in = LayoutPerformanceBaseline.class.getResourceAsStream(BASELINE_RESOURCE)) {
+            if (in != null) {
+                baseline.load(in);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load " + BASELINE_RESOURCE, e);
+        }
+    }
+
+    void check(String formName, Map<String, Double> metrics) {
+        double timeThreshold = threshold("threshold.time", 2.0);
+        double countThreshold = threshold("threshold.count", 1);
+
+        List<String> regressions = new ArrayList<>();
+        for (Map.Entry<String, Double> entry : metrics.entrySet()) {
+            String key = formName + "." + entry.getKey();
+            double value = entry.getValue();
+            String baselineValue = baseline.getProperty(key);
+            boolean count = isCount(entry.getKey());
+
+            if (baselineValue == null) {
+                if (count) {
+                    regressions.add(String.format("%s = %.3f has no baseline, update it with -PupdateLayoutPerformanceBaseline", key, value));
+                }
+                continue;
+            }
+
+            double expected = Double.parseDouble(baselineValue);
+            double limit = count ? expected + countThreshold : expected * timeThreshold;
+            if (value > limit) {
+                regressions.add(String.format("%s = %.3f exceeds limit %.3f (baseline %.3f)", key, value, limit, expected));
+            }
+        }
+
+        if (Boolean.getBoolean(SYSTEM_PROPERTY_PREFIX + "updateBaseline")) {
+            update(formName, metrics);
+            return;
+        }
+
+        if (!regressions.isEmpty()) {
+            fail("Layout performance regression:\n" + String.join("\n", regressions));
+        }
+    }
+
+    private static boolean isCount(String metric) {
+        return PULSES.equals(metric) || LAYOUT_PASSES.equals(metric);
+    }
+
+    private double threshold(String name, double defaultValue) {
+        String value = System.getProperty(SYSTEM_PROPERTY_PREFIX + name, baseline.getProperty(name));
+        return value == null ? defaultValue : Double.parseDouble(value);
+    }
+
+    private static void update(String formName, Map<String, Double> metrics) {
+        String baselineFile = System.getProperty(SYSTEM_PROPERTY_PREFIX + "baselineFile");
+        if (baselineFile == null) {
+            fail("System property " + SYSTEM_PROPERTY_PREFIX + "baselineFile is required to update the baseline");
+        }
+
+        synchronized (LayoutPerformanceBaseline.class) {
+            Properties properties = new Properties();
+            try (InputStream in = new FileInputStream(baselineFile)) {
+                properties.load(in);
+            } catch (IOException e) {
+                // start with an empty baseline
+            }
+
+            for (Map.Entry<String, Double> entry : metrics.entrySet()) {
+                properties.setProperty(formName + "." + entry.getKey(), String.format(Locale.ROOT, "%.3f", entry.getValue()));
+            }
+
+            try (OutputStream out = new FileOutputStream(baselineFile)) {
+                properties.store(out, "Layout performance baseline, see AbstractLayoutPerformanceTest");
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to write " + baselineFile, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package ch.obermuhlner.javafx.gridform;
+
+import javafx.application.Platform;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ListProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleListProperty;
+import javafx.collections.FXCollections;
+import javafx.scene.control.ListView;
+import org.junit.After;
+import org.junit.Test;
+import org.testfx.util.WaitForAsyncUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class LazyListViewTest extends AbstractGridFormTest {
+
+    private static final int SIZE = 1000000;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    private final IntegerProperty selectedIndexProperty = new SimpleIntegerProperty(-1);
+    private final ListProperty<Integer> selectedIndicesProperty = new SimpleListProperty<>(FXCollections.observableArrayList());
+
+    private final AtomicInteger loadedItemCount = new AtomicInteger();
+    private final AtomicBoolean loadedOnFxThread = new AtomicBoolean();
+
+    private ListView<String> singleListView;
+    private ListView<String> multiListView;
+
+    @Override
+    protected void setup(GridForm gridForm) {
+        gridForm.row()
+                .label("Single")
+                .listView(selectedIndexProperty, SIZE, this::loadItems, executor)
+                .with(listView -> singleListView = listView);
+        gridForm.row()
+                .label("Multi")
+                .listView(selectedIndicesProperty, SIZE, this::loadItems, executor)
+                .with(listView -> multiListView = listView);
+    }
+
+    @After
+    public void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    private List<String> loadItems(int offset, int limit) {
+        if (Platform.isFxApplicationThread()) {
+            loadedOnFxThread.set(true);
+        }
+        loadedItemCount.addAndGet(limit);
+
+        List<String> items = new ArrayList<>();
+        for (int i = 0; i < limit; i++) {
+            items.add("Item " + (offset + i));
+        }
+        return items;
+    }
+
+    @Test
+    public void testOnlyVisibleItemsLoaded() throws Exception {
+        awaitLoaded();
+
+        assertEquals(SIZE, singleListView.getItems().size());
+        assertEquals("Item 0", singleListView.getItems().get(0));
+        assertTrue("loaded items " + loadedItemCount.get(), loadedItemCount.get() < 2000);
+        assertFalse(loadedOnFxThread.get());
+    }
+
+    @Test
+    public void testSingleSelectionOfItemNotLoaded() throws Exception {
+        interact(() -> selectedIndexProperty.set(500000));
+        assertEquals(500000, singleListView.getSelectionModel().getSelectedIndex());
+
+        interact(() -> singleListView.scrollTo(500000));
+        awaitLoaded();
+        awaitLoaded();
+        assertEquals("Item 500000", singleListView.getItems().get(500000));
+
+        interact(() -> singleListView.getSelectionModel().select(10));
+        assertEquals(10, selectedIndexProperty.get());
+    }
+
+    @Test
+    public void testMultiSelectionOfItemsNotLoaded() {
+        interact(() -> selectedIndicesProperty.setAll(3, 400000, 900000));
+        assertEquals(Arrays.asList(3, 400000, 900000), new ArrayList<>(multiListView.getSelectionModel().getSelectedIndices()));
+
+        interact(() -> multiListView.getSelectionModel().clearSelection(400000));
+        assertEquals(Arrays.asList(3, 900000), new ArrayList<>(selectedIndicesProperty));
+    }
+
+    @Test
+    public void testFailedPageReloadedAfterBackOff() throws Exception {
+        AtomicInteger loadCount = new AtomicInteger();
+        LazyList<String> failingList = new LazyList<>(100, (offset, limit) -> {
+            loadCount.incrementAndGet();
+            throw new IllegalStateException("Backend unavailable");
+        }, executor, 10, 20);
+
+        interact(() -> {
+            failingList.get(0);
+        });
+        awaitLoaded();
+        int failedLoadCount = loadCount.get();
+        assertTrue(failedLoadCount > 0);
+
+        for (int i = 0; i < 5; i++) {
+            interact(() -> {
+                failingList.get(0);
+            });
+            awaitLoaded();
+        }
+        assertEquals(failedLoadCount, loadCount.get());
+
+        sleep(1100);
+        interact(() -> {
+            failingList.get(0);
+        });
+        awaitLoaded();
+        assertEquals(2 * failedLoadCount, loadCount.get());
+    }
+
+    private void awaitLoaded() throws Exception {
+        WaitForAsyncUtils.waitForFxEvents();
+        executor.submit(() -> {}).get(10, TimeUnit.SECONDS);
+        WaitForAsyncUtils.waitForFxEvents();
+    }
+}
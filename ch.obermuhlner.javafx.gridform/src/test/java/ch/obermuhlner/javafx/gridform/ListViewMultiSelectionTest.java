@@ -0,0 +1,87 @@
+package ch.obermuhlner.javafx.gridform;
+
+import javafx.beans.property.ListProperty;
+import javafx.beans.property.SimpleListProperty;
+import javafx.collections.FXCollections;
+import javafx.scene.control.ListView;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ListViewMultiSelectionTest extends AbstractGridFormTest {
+
+    private static final int ELEMENT_COUNT = 50000;
+    private static final long TIME_BUDGET_MILLIS = 5000;
+
+    private final ListProperty<String> elementsProperty = new SimpleListProperty<>(FXCollections.observableArrayList());
+    private final ListProperty<String> selectedElementsProperty = new SimpleListProperty<>(FXCollections.observableArrayList());
+
+    private ListView<String> listView;
+
+    @Override
+    protected void setup(GridForm gridForm) {
+        List<String> elements = new ArrayList<>();
+        for (int i = 0; i < ELEMENT_COUNT; i++) {
+            elements.add("Element " + i);
+        }
+        elementsProperty.setAll(elements);
+
+        gridForm.row()
+                .label("ListView")
+                .listView(selectedElementsProperty, elementsProperty)
+                .with(listView -> this.listView = listView);
+    }
+
+    @Test
+    public void testSelectSingle() {
+        interact(() -> selectedElementsProperty.add("Element 3"));
+        assertEquals(1, listView.getSelectionModel().getSelectedIndices().size());
+        assertTrue(listView.getSelectionModel().isSelected(3));
+
+        interact(() -> listView.getSelectionModel().select(7));
+        assertEquals(2, selectedElementsProperty.size());
+        assertTrue(selectedElementsProperty.contains("Element 7"));
+
+        interact(() -> listView.getSelectionModel().clearSelection(3));
+        assertEquals(1, selectedElementsProperty.size());
+        assertEquals("Element 7", selectedElementsProperty.get(0));
+
+        interact(() -> selectedElementsProperty.remove("Element 7"));
+        assertEquals(0, listView.getSelectionModel().getSelectedIndices().size());
+    }
+
+    @Test
+    public void testModelSelectAllClearAll() {
+        long startMillis = System.currentTimeMillis();
+
+        interact(() -> selectedElementsProperty.setAll(elementsProperty));
+        assertEquals(ELEMENT_COUNT, listView.getSelectionModel().getSelectedIndices().size());
+
+        interact(() -> selectedElementsProperty.clear());
+        assertEquals(0, listView.getSelectionModel().getSelectedIndices().size());
+
+        assertWithinBudget(startMillis);
+    }
+
+    @Test
+    public void testViewSelectAllClearAll() {
+        long startMillis = System.currentTimeMillis();
+
+        interact(() -> listView.getSelectionModel().selectAll());
+        assertEquals(ELEMENT_COUNT, selectedElementsProperty.size());
+
+        interact(() -> listView.getSelectionModel().clearSelection());
+        assertEquals(0, selectedElementsProperty.size());
+
+        assertWithinBudget(startMillis);
+    }
+
+    private static void assertWithinBudget(long startMillis) {
+        long elapsedMillis = System.currentTimeMillis() - startMillis;
+        assertTrue("elapsed " + elapsedMillis + " ms", elapsedMillis < TIME_BUDGET_MILLIS);
+    }
+}
@@ -0,0 +1,133 @@
+package ch.obermuhlner.javafx.gridform;
+
+import javafx.application.Platform;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.scene.control.ComboBox;
+import org.junit.After;
+import org.junit.Test;
+import org.testfx.util.WaitForAsyncUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class PagedComboBoxTest extends AbstractGridFormTest {
+
+    private static final int ITEM_COUNT = 300000;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    private final ObjectProperty<String> skuProperty = new SimpleObjectProperty<>();
+
+    private final AtomicInteger loadCount = new AtomicInteger();
+    private final AtomicBoolean loadedOnFxThread = new AtomicBoolean();
+
+    private ComboBox<String> comboBox;
+
+    @Override
+    protected void setup(GridForm gridForm) {
+        gridForm.row()
+                .label("SKU")
+                .comboBox(skuProperty, this::loadSkus, executor)
+                .with(comboBox -> this.comboBox = comboBox);
+    }
+
+    @After
+    public void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    private List<String> loadSkus(String filter, int offset, int limit) {
+        loadCount.incrementAndGet();
+        if (Platform.isFxApplicationThread()) {
+            loadedOnFxThread.set(true);
+        }
+
+        List<String> page = new ArrayList<>();
+        int matched = 0;
+        for (int i = 0; i < ITEM_COUNT && page.size() < limit; i++) {
+            String sku = "SKU-" + i;
+            if (sku.contains(filter) && matched++ >= offset) {
+                page.add(sku);
+            }
+        }
+        return page;
+    }
+
+    @Test
+    public void testFirstPageLoadedInBackground() throws Exception {
+        awaitLoaded();
+
+        assertEquals(100, comboBox.getItems().size());
+        assertEquals("SKU-0", comboBox.getItems().get(0));
+        assertFalse(loadedOnFxThread.get());
+    }
+
+    @Test
+    public void testFilterDropsStaleQueries() throws Exception {
+        awaitLoaded();
+
+        CountDownLatch blocked = new CountDownLatch(1);
+        executor.execute(() -> {
+            try {
+                blocked.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        PagedItems<String> pagedItems = new PagedItems<>(this::loadSkus, executor, 100);
+        interact(() -> {
+            pagedItems.filter("1");
+            pagedItems.filter("12");
+            pagedItems.filter("12345");
+        });
+        int loadCountBefore = loadCount.get();
+        blocked.countDown();
+        awaitLoaded();
+
+        assertEquals(1, loadCount.get() - loadCountBefore);
+        assertEquals(13, pagedItems.getItems().size());
+        for (String sku : pagedItems.getItems()) {
+            assertTrue(sku, sku.contains("12345"));
+        }
+    }
+
+    @Test
+    public void testTypingFilterKeepsValueAndText() throws Exception {
+        awaitLoaded();
+
+        interact(() -> comboBox.getSelectionModel().select("SKU-5"));
+        assertEquals("SKU-5", skuProperty.get());
+
+        clickOn(comboBox.getEditor());
+        interact(() -> comboBox.getEditor().end());
+        write("2");
+        awaitLoaded();
+
+        assertEquals("SKU-52", comboBox.getEditor().getText());
+        assertEquals(6, comboBox.getEditor().getCaretPosition());
+        assertEquals("SKU-5", comboBox.getValue());
+        assertEquals("SKU-5", skuProperty.get());
+        assertFalse(comboBox.getItems().isEmpty());
+        for (String sku : comboBox.getItems()) {
+            assertTrue(sku, sku.contains("SKU-52"));
+        }
+
+        interact(() -> skuProperty.set("SKU-520"));
+        assertEquals("SKU-520", comboBox.getValue());
+    }
+
+    private void awaitLoaded() throws Exception {
+        executor.submit(() -> {}).get(10, TimeUnit.SECONDS);
+        WaitForAsyncUtils.waitForFxEvents();
+    }
+}
@@ -0,0 +1,119 @@
+package ch.obermuhlner.javafx.gridform;
+
+import javafx.beans.property.*;
+import javafx.scene.control.Slider;
+import javafx.scene.control.TextField;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class PrimitiveBindingTest extends AbstractGridFormTest {
+
+    private final DoubleProperty doubleProperty = new SimpleDoubleProperty(1.5);
+    private final IntegerProperty integerProperty = new SimpleIntegerProperty(3);
+    private final LongProperty longProperty = new SimpleLongProperty(12345678901L);
+    private final DoubleProperty boxedProperty = new SimpleDoubleProperty();
+
+    private Slider doubleSlider;
+    private Slider integerSlider;
+    private Slider boxedSlider;
+    private TextField integerTextField;
+    private TextField longTextField;
+
+    @Override
+    protected void setup(GridForm gridForm) {
+        Property<Number> boxed = boxedProperty;
+
+        gridForm.row().label("Double").slider(doubleProperty, 0, 10).with(slider -> doubleSlider = slider);
+        gridForm.row().label("Integer").slider(integerProperty, 0, 10).with(slider -> integerSlider = slider);
+        gridForm.row().label("Boxed").slider(boxed, 0, 10).with(slider -> boxedSlider = slider);
+        gridForm.row().label("Integer").textField(integerProperty).with(textField -> integerTextField = textField);
+        gridForm.row().label("Long").textField(longProperty).with(textField -> longTextField = textField);
+    }
+
+    @Test
+    public void testSliderBinding() {
+        assertEquals(1.5, doubleSlider.getValue(), 0.0);
+        assertEquals(3.0, integerSlider.getValue(), 0.0);
+
+        interact(() -> doubleSlider.setValue(7.25));
+        assertEquals(7.25, doubleProperty.get(), 0.0);
+
+        interact(() -> integerSlider.setValue(6.6));
+        assertEquals(7, integerProperty.get());
+        assertEquals(7.0, integerSlider.getValue(), 0.0);
+
+        interact(() -> integerSlider.setValue(2.2));
+        assertEquals(2, integerProperty.get());
+        assertEquals(2.0, integerSlider.getValue(), 0.0);
+
+        interact(() -> doubleProperty.set(2.0));
+        assertEquals(2.0, doubleSlider.getValue(), 0.0);
+    }
+
+    @Test
+    public void testBoxedSliderBinding() {
+        interact(() -> boxedSlider.setValue(3.5));
+        assertEquals(3.5, boxedProperty.get(), 0.0);
+
+        interact(() -> {
+            boxedSlider.setValue(4.5);
+            boxedProperty.set(6.0);
+        });
+        assertEquals(6.0, boxedSlider.getValue(), 0.0);
+    }
+
+    @Test
+    public void testNumericTextFieldBinding() {
+        assertEquals("3", integerTextField.getText());
+        assertEquals("12345678901", longTextField.getText());
+
+        interact(() -> integerTextField.setText("42"));
+        assertEquals(42, integerProperty.get());
+
+        interact(() -> integerTextField.setText("4x"));
+        assertEquals(42, integerProperty.get());
+        assertEquals("4x", integerTextField.getText());
+
+        interact(() -> longProperty.set(-5));
+        assertEquals("-5", longTextField.getText());
+    }
+
+    @Test
+    public void testModelChangeAfterControlEdit() {
+        interact(() -> {
+            longTextField.setText("7");
+            longProperty.set(8);
+        });
+        assertEquals("8", longTextField.getText());
+
+        interact(() -> {
+            longProperty.set(9);
+            longProperty.set(10);
+        });
+        assertEquals("10", longTextField.getText());
+
+        interact(() -> {
+            doubleSlider.setValue(4.0);
+            doubleProperty.set(5.0);
+        });
+        assertEquals(5.0, doubleSlider.getValue(), 0.0);
+    }
+
+    @Test
+    public void testControlEditAfterModelChange() {
+        interact(() -> {
+            longProperty.set(8);
+            longTextField.setText("9");
+            longTextField.setText("10");
+        });
+        assertEquals(10, longProperty.get());
+
+        interact(() -> {
+            doubleProperty.set(3.0);
+            doubleSlider.setValue(4.0);
+            doubleSlider.setValue(6.0);
+        });
+        assertEquals(6.0, doubleProperty.get(), 0.0);
+    }
+}
@@ -0,0 +1,102 @@
+package ch.obermuhlner.javafx.gridform;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.ListProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.beans.property.SimpleListProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.control.TextField;
+import org.junit.Test;
+import org.testfx.util.WaitForAsyncUtils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class PropertyBridgeTest extends AbstractGridFormTest {
+
+    private static final int UPDATE_COUNT = 100000;
+
+    private final PropertyBridge bridge = new PropertyBridge();
+
+    private final StringProperty stringProperty = new SimpleStringProperty("Alpha");
+    private final DoubleProperty doubleProperty = new SimpleDoubleProperty(0);
+
+    private TextField textField;
+
+    private int changeCount;
+    private int pulseCount;
+    private boolean changedOutsideFxThread;
+
+    @Override
+    protected void setup(GridForm gridForm) {
+        gridForm.row()
+                .label("TextField")
+                .textField(stringProperty)
+                .with(textField -> this.textField = textField);
+        gridForm.row()
+                .label("Slider")
+                .slider(doubleProperty, 0, UPDATE_COUNT);
+
+        doubleProperty.addListener((observable, oldValue, newValue) -> {
+            changeCount++;
+            changedOutsideFxThread |= !Platform.isFxApplicationThread();
+        });
+    }
+
+    @Test
+    public void testWritesFromWorkerThread() throws InterruptedException {
+        AnimationTimer pulseCounter = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                pulseCount++;
+            }
+        };
+        interact(pulseCounter::start);
+
+        Thread worker = new Thread(() -> {
+            for (int i = 1; i <= UPDATE_COUNT; i++) {
+                bridge.set(doubleProperty, i);
+                bridge.set(stringProperty, "Value " + i);
+            }
+        });
+        worker.start();
+        worker.join();
+        waitForPulse();
+        interact(pulseCounter::stop);
+
+        assertEquals(UPDATE_COUNT, doubleProperty.get(), 0.0);
+        assertEquals("Value " + UPDATE_COUNT, textField.getText());
+        assertTrue("changes " + changeCount + " pulses " + pulseCount, changeCount <= pulseCount);
+        assertTrue(!changedOutsideFxThread);
+    }
+
+    @Test
+    public void testEqualListPropertiesWrittenSeparately() throws InterruptedException {
+        ListProperty<String> firstList = new SimpleListProperty<>(FXCollections.observableArrayList());
+        ListProperty<String> secondList = new SimpleListProperty<>(FXCollections.observableArrayList());
+        ObservableList<String> firstValue = FXCollections.observableArrayList("a");
+        ObservableList<String> secondValue = FXCollections.observableArrayList("b");
+
+        Thread worker = new Thread(() -> {
+            bridge.set(firstList, firstValue);
+            bridge.set(secondList, secondValue);
+        });
+        worker.start();
+        worker.join();
+        waitForPulse();
+
+        assertSame(firstValue, firstList.get());
+        assertSame(secondValue, secondList.get());
+    }
+
+    private void waitForPulse() {
+        sleep(100);
+        WaitForAsyncUtils.waitForFxEvents();
+    }
+}
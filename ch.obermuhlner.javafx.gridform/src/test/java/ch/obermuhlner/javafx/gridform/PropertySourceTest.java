@@ -0,0 +1,96 @@
+package ch.obermuhlner.javafx.gridform;
+
+import ch.obermuhlner.javafx.gridform.TestModel.Animal;
+import ch.obermuhlner.javafx.gridform.TestModel.Pet;
+import javafx.beans.property.ListProperty;
+import javafx.collections.FXCollections;
+import javafx.scene.control.CheckBox;
+import javafx.scene.control.TextField;
+import javafx.scene.layout.VBox;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class PropertySourceTest extends AbstractGridFormTest {
+
+    private final Pet fido = new Pet("Fido", Animal.Cat);
+    private final Pet tom = new Pet("Tom", Animal.Dog, Animal.Fish);
+
+    private final PropertySource<Pet> petSource = new PropertySource<>(fido);
+    private final ListProperty<Animal> friendsProperty = petSource.listProperty(Pet::friendsProperty);
+
+    private TextField nameTextField;
+    private VBox friendsCheckBoxes;
+
+    @Override
+    protected void setup(GridForm gridForm) {
+        gridForm.row()
+                .label("Name")
+                .textField(petSource.stringProperty(Pet::nameProperty))
+                .with(textField -> nameTextField = textField);
+        gridForm.row()
+                .label("Friends")
+                .checkBoxes(friendsProperty, Animal.values())
+                .with(vBox -> friendsCheckBoxes = vBox);
+    }
+
+    private boolean isFriendSelected(Animal animal) {
+        return ((CheckBox) friendsCheckBoxes.getChildren().get(animal.ordinal())).isSelected();
+    }
+
+    @Test
+    public void testRebind() {
+        TextField originalTextField = nameTextField;
+        assertEquals("Fido", nameTextField.getText());
+        assertTrue(isFriendSelected(Animal.Cat));
+
+        interact(() -> petSource.setModel(tom));
+        assertSame(originalTextField, nameTextField);
+        assertEquals("Tom", nameTextField.getText());
+        assertFalse(isFriendSelected(Animal.Cat));
+        assertTrue(isFriendSelected(Animal.Dog));
+        assertTrue(isFriendSelected(Animal.Fish));
+
+        interact(() -> nameTextField.setText("Jerry"));
+        assertEquals("Jerry", tom.nameProperty().get());
+        assertEquals("Fido", fido.nameProperty().get());
+
+        interact(() -> fido.nameProperty().set("Rex"));
+        assertEquals("Jerry", nameTextField.getText());
+    }
+
+    @Test
+    public void testNullModelDetachesForm() {
+        interact(() -> petSource.setModel(null));
+        assertEquals("", nameTextField.getText());
+        assertFalse(isFriendSelected(Animal.Cat));
+
+        interact(() -> {
+            nameTextField.setText("Jerry");
+            ((CheckBox) friendsCheckBoxes.getChildren().get(Animal.Dog.ordinal())).setSelected(true);
+        });
+        assertEquals("Fido", fido.nameProperty().get());
+        assertEquals(FXCollections.observableArrayList(Animal.Cat), fido.friendsProperty().get());
+
+        interact(() -> petSource.setModel(fido));
+        assertEquals("Fido", nameTextField.getText());
+        assertTrue(isFriendSelected(Animal.Cat));
+        assertFalse(isFriendSelected(Animal.Dog));
+    }
+
+    @Test
+    public void testRebindUpdatesValuesOnce() {
+        int[] textChangeCount = new int[1];
+        int[] friendsChangeCount = new int[1];
+        nameTextField.textProperty().addListener((observable, oldValue, newValue) -> textChangeCount[0]++);
+        friendsProperty.addListener((observable, oldValue, newValue) -> friendsChangeCount[0]++);
+
+        interact(() -> petSource.setModel(tom));
+        assertEquals(1, textChangeCount[0]);
+        assertEquals(1, friendsChangeCount[0]);
+        assertSame(tom.friendsProperty().get(), friendsProperty.get());
+    }
+}
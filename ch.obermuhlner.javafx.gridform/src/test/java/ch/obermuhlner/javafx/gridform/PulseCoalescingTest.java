@@ -0,0 +1,65 @@
+package ch.obermuhlner.javafx.gridform;
+
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.scene.control.Label;
+import org.junit.Test;
+import org.testfx.util.WaitForAsyncUtils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class PulseCoalescingTest extends AbstractGridFormTest {
+
+    private final DoubleProperty doubleProperty = new SimpleDoubleProperty(0);
+
+    private Label label;
+    private int textChangeCount;
+
+    @Override
+    protected void setup(GridForm gridForm) {
+        gridForm.setPulseCoalescing(true);
+
+        gridForm.row()
+                .label("Telemetry")
+                .label(doubleProperty, GridForm.DOUBLE_FORMAT)
+                .with(label -> this.label = label);
+
+        label.textProperty().addListener((observable, oldValue, newValue) -> textChangeCount++);
+    }
+
+    @Test
+    public void testLatestValueApplied() {
+        interact(() -> {
+            doubleProperty.set(1);
+            doubleProperty.set(2);
+            doubleProperty.set(3);
+        });
+        waitForPulse();
+
+        assertEquals("3", label.getText());
+    }
+
+    @Test
+    public void testLabelUpdatesFlatWithUpdateRate() {
+        for (int updateCount = 1000; updateCount <= 1000000; updateCount *= 10) {
+            int count = updateCount;
+            textChangeCount = 0;
+
+            interact(() -> {
+                for (int i = 0; i < count; i++) {
+                    doubleProperty.set(i);
+                }
+            });
+            waitForPulse();
+
+            assertEquals(String.valueOf(count - 1), label.getText());
+            assertTrue("label updates " + textChangeCount, textChangeCount <= 2);
+        }
+    }
+
+    private void waitForPulse() {
+        sleep(100);
+        WaitForAsyncUtils.waitForFxEvents();
+    }
+}
@@ -0,0 +1,82 @@
+package ch.obermuhlner.javafx.gridform;
+
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.scene.control.RadioButton;
+import javafx.scene.layout.VBox;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class RadioButtonsTest extends AbstractGridFormTest {
+
+    private final ObjectProperty<String> selectedElementProperty = new SimpleObjectProperty<String>("Beta") {
+        @Override
+        public void set(String newValue) {
+            setCount++;
+            super.set(newValue);
+        }
+    };
+
+    private int setCount;
+
+    private RowBuilder.RegionRowBuilder<VBox> radioButtonsRowBuilder;
+
+    @Override
+    protected void setup(GridForm gridForm) {
+        radioButtonsRowBuilder = gridForm.row()
+                .label("RadioButton")
+                .radioButtons(selectedElementProperty, "Alpha", "Beta", "Gamma");
+    }
+
+    private RadioButton radioButton(int index) {
+        return (RadioButton) radioButtonsRowBuilder.region.getChildren().get(index);
+    }
+
+    @Test
+    public void testInitialSelection() {
+        assertFalse(radioButton(0).isSelected());
+        assertTrue(radioButton(1).isSelected());
+        assertFalse(radioButton(2).isSelected());
+    }
+
+    @Test
+    public void testModelToToggle() {
+        interact(() -> selectedElementProperty.set("Gamma"));
+        assertFalse(radioButton(0).isSelected());
+        assertFalse(radioButton(1).isSelected());
+        assertTrue(radioButton(2).isSelected());
+
+        interact(() -> selectedElementProperty.set(null));
+        assertFalse(radioButton(0).isSelected());
+        assertFalse(radioButton(1).isSelected());
+        assertFalse(radioButton(2).isSelected());
+    }
+
+    @Test
+    public void testToggleToModel() {
+        clickOn(radioButton(0));
+        assertEquals("Alpha", selectedElementProperty.get());
+        assertTrue(radioButton(0).isSelected());
+        assertFalse(radioButton(1).isSelected());
+
+        clickOn(radioButton(2));
+        assertEquals("Gamma", selectedElementProperty.get());
+    }
+
+    @Test
+    public void testSingleModelWritePerClick() {
+        setCount = 0;
+
+        clickOn(radioButton(0));
+        assertEquals(1, setCount);
+
+        clickOn(radioButton(2));
+        assertEquals(2, setCount);
+
+        clickOn(radioButton(2));
+        assertEquals(2, setCount);
+    }
+}
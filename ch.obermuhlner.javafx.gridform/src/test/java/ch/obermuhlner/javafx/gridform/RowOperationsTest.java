@@ -0,0 +1,136 @@
+package ch.obermuhlner.javafx.gridform;
+
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.control.TextField;
+import javafx.scene.layout.GridPane;
+import org.junit.Test;
+import org.testfx.util.WaitForAsyncUtils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class RowOperationsTest extends AbstractGridFormTest {
+
+    private static final int ROW_COUNT = 10000;
+
+    private GridForm gridForm;
+
+    @Override
+    protected void setup(GridForm gridForm) {
+        this.gridForm = gridForm;
+
+        gridForm.batch(form -> {
+            for (int i = 0; i < ROW_COUNT; i++) {
+                form.row()
+                        .label("Label " + i)
+                        .label("Value " + i);
+            }
+        });
+    }
+
+    @Test
+    public void testInsertRow() {
+        interact(() -> gridForm.insertRow(1).label("Inserted"));
+
+        assertEquals(ROW_COUNT + 1, gridForm.getRowCount());
+        assertEquals(1, rowIndexOf("Inserted"));
+        assertEquals(0, rowIndexOf("Label 0"));
+        assertEquals(2, rowIndexOf("Label 1"));
+        assertEquals(ROW_COUNT, rowIndexOf("Value " + (ROW_COUNT - 1)));
+    }
+
+    @Test
+    public void testRemoveRow() {
+        Label[] removed = new Label[1];
+        interact(() -> {
+            removed[0] = findLabel("Label 5");
+            gridForm.removeRow(5);
+        });
+
+        assertEquals(ROW_COUNT - 1, gridForm.getRowCount());
+        assertEquals(2 * (ROW_COUNT - 1), gridForm.getGridPane().getChildren().size());
+        assertFalse(gridForm.getGridPane().getChildren().contains(removed[0]));
+        assertEquals(4, rowIndexOf("Label 4"));
+        assertEquals(5, rowIndexOf("Label 6"));
+    }
+
+    @Test
+    public void testMoveRow() {
+        interact(() -> gridForm.moveRow(2, 7));
+
+        assertEquals(7, rowIndexOf("Label 2"));
+        assertEquals(7, rowIndexOf("Value 2"));
+        assertEquals(2, rowIndexOf("Label 3"));
+        assertEquals(6, rowIndexOf("Label 7"));
+        assertEquals(8, rowIndexOf("Label 8"));
+
+        interact(() -> gridForm.moveRow(7, 2));
+
+        assertEquals(2, rowIndexOf("Label 2"));
+        assertEquals(7, rowIndexOf("Label 7"));
+    }
+
+    @Test
+    public void testRowAppendedAfterInsert() {
+        interact(() -> {
+            gridForm.insertRow(0).label("First");
+            gridForm.row().label("Last");
+        });
+
+        assertEquals(0, rowIndexOf("First"));
+        assertEquals(ROW_COUNT + 1, rowIndexOf("Last"));
+    }
+
+    @Test
+    public void testRemovedRowReleased() {
+        StringProperty nameProperty = new SimpleStringProperty("Fido");
+        StringProperty codeProperty = new SimpleStringProperty("invalid");
+        GridForm form = new GridForm(new GridPane());
+        TextField[] codeTextField = new TextField[1];
+
+        interact(() -> {
+            form.setValidationExecutor(Runnable::run);
+            form.row()
+                    .label("Name")
+                    .textField(nameProperty);
+            form.row()
+                    .label("Code")
+                    .textField(codeProperty)
+                    .validate(code -> code.matches("[A-Z][0-9]+") ? null : "Invalid code")
+                    .with(textField -> codeTextField[0] = textField);
+        });
+        WaitForAsyncUtils.waitForFxEvents();
+        assertFalse(form.isValid());
+
+        interact(() -> form.removeRow(1));
+        WaitForAsyncUtils.waitForFxEvents();
+        assertTrue(form.isValid());
+
+        interact(() -> codeProperty.set("A1"));
+        assertEquals("invalid", codeTextField[0].getText());
+
+        interact(() -> codeTextField[0].setText("B2"));
+        assertEquals("A1", codeProperty.get());
+        assertTrue(form.isValid());
+
+        interact(() -> nameProperty.set("Tom"));
+        assertEquals("Tom", ((TextField) form.getGridPane().getChildren().get(1)).getText());
+    }
+
+    private int rowIndexOf(String text) {
+        return GridPane.getRowIndex(findLabel(text));
+    }
+
+    private Label findLabel(String text) {
+        for (Node node : gridForm.getGridPane().getChildren()) {
+            if (node instanceof Label && text.equals(((Label) node).getText())) {
+                return (Label) node;
+            }
+        }
+        throw new AssertionError("Label not found: " + text);
+    }
+}
@@ -0,0 +1,114 @@
+package ch.obermuhlner.javafx.gridform;
+
+import javafx.beans.binding.BooleanBinding;
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import javafx.scene.control.Label;
+import javafx.scene.control.TextField;
+import org.junit.Test;
+import org.testfx.util.WaitForAsyncUtils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class RowVisibilityTest extends AbstractGridFormTest {
+
+    private final BooleanProperty married = new SimpleBooleanProperty(false);
+    private final StringProperty spouse = new SimpleStringProperty();
+    private final StringProperty name = new SimpleStringProperty();
+
+    private int evaluationCount;
+
+    private Label spouseLabel;
+    private TextField spouseField;
+    private int visibleChangeCount;
+
+    @Override
+    protected void setup(GridForm gridForm) {
+        BooleanBinding showSpouse = new BooleanBinding() {
+            {
+                bind(married);
+            }
+
+            @Override
+            protected boolean computeValue() {
+                evaluationCount++;
+                return married.get();
+            }
+        };
+
+        gridForm.row()
+                .label("Name")
+                .textField(name);
+        gridForm.row()
+                .visibleWhen(showSpouse)
+                .label("Spouse")
+                .with(label -> spouseLabel = label)
+                .textField(spouse)
+                .with(textField -> spouseField = textField);
+
+        spouseLabel.visibleProperty().addListener((observable, oldValue, newValue) -> visibleChangeCount++);
+    }
+
+    @Test
+    public void testInitiallyHidden() {
+        assertFalse(spouseLabel.isVisible());
+        assertFalse(spouseLabel.isManaged());
+        assertFalse(spouseField.isVisible());
+        assertFalse(spouseField.isManaged());
+    }
+
+    @Test
+    public void testShowAndHide() {
+        interact(() -> married.set(true));
+        waitForPulse();
+
+        assertTrue(spouseLabel.isVisible());
+        assertTrue(spouseLabel.isManaged());
+        assertTrue(spouseField.isVisible());
+        assertTrue(spouseField.isManaged());
+
+        interact(() -> married.set(false));
+        waitForPulse();
+
+        assertFalse(spouseLabel.isVisible());
+        assertFalse(spouseField.isManaged());
+    }
+
+    @Test
+    public void testEvaluatedOnlyWhenDependenciesChange() {
+        int initialEvaluationCount = evaluationCount;
+
+        interact(() -> name.set("Fred"));
+        waitForPulse();
+        assertEquals(initialEvaluationCount, evaluationCount);
+
+        interact(() -> {
+            for (int i = 0; i < 100; i++) {
+                married.set(i % 2 == 0);
+            }
+        });
+        waitForPulse();
+        assertEquals(initialEvaluationCount + 1, evaluationCount);
+    }
+
+    @Test
+    public void testChangesWithinPulseCoalesced() {
+        interact(() -> {
+            married.set(true);
+            married.set(false);
+        });
+        waitForPulse();
+
+        assertEquals(0, visibleChangeCount);
+        assertFalse(spouseLabel.isVisible());
+    }
+
+    private void waitForPulse() {
+        sleep(100);
+        WaitForAsyncUtils.waitForFxEvents();
+    }
+}
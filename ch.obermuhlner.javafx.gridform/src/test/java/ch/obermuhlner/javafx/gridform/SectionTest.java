@@ -0,0 +1,45 @@
+package ch.obermuhlner.javafx.gridform;
+
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import javafx.scene.control.TitledPane;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+public class SectionTest extends AbstractGridFormTest {
+
+    private final StringProperty stringProperty = new SimpleStringProperty("Alpha");
+
+    private TitledPane titledPane;
+    private int buildCount;
+
+    @Override
+    protected void setup(GridForm gridForm) {
+        gridForm.row()
+                .label("Always")
+                .textField(stringProperty);
+        gridForm.section("Details", form -> {
+            buildCount++;
+            form.row()
+                    .label("TextField")
+                    .textField(stringProperty);
+        }).with(titledPane -> this.titledPane = titledPane);
+    }
+
+    @Test
+    public void testBuiltOnFirstExpand() {
+        assertEquals(0, buildCount);
+        assertNull(titledPane.getContent());
+
+        clickOn("Details");
+        assertEquals(1, buildCount);
+        assertNotNull(titledPane.getContent());
+
+        interact(() -> titledPane.setExpanded(false));
+        interact(() -> titledPane.setExpanded(true));
+        assertEquals(1, buildCount);
+    }
+}
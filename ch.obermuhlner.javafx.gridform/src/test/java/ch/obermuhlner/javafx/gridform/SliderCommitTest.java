@@ -0,0 +1,118 @@
+package ch.obermuhlner.javafx.gridform;
+
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.scene.control.Slider;
+import javafx.util.Duration;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class SliderCommitTest extends AbstractGridFormTest {
+
+    private final DoubleProperty valueProperty = new SimpleDoubleProperty(1);
+    private final DoubleProperty previewProperty = new SimpleDoubleProperty();
+    private final DoubleProperty throttledProperty = new SimpleDoubleProperty(1);
+    private final DoubleProperty repeatedProperty = new SimpleDoubleProperty(1) {
+        @Override
+        public void set(double newValue) {
+            repeatedSetCount++;
+            super.set(newValue);
+        }
+    };
+    private final DoubleProperty repeatedPreviewProperty = new SimpleDoubleProperty();
+
+    private int valueChangeCount;
+    private int throttledChangeCount;
+    private int repeatedSetCount;
+
+    private Slider slider;
+    private Slider throttledSlider;
+    private Slider repeatedSlider;
+
+    @Override
+    protected void setup(GridForm gridForm) {
+        gridForm.row()
+                .label("Value")
+                .slider(valueProperty, 0, 100)
+                .commitOnRelease(previewProperty)
+                .with(slider -> this.slider = slider)
+                .label(previewProperty, GridForm.DOUBLE_FORMAT);
+        gridForm.row()
+                .label("Throttled")
+                .slider(throttledProperty, 0, 100)
+                .commitOnRelease(null, Duration.hours(1))
+                .with(slider -> throttledSlider = slider);
+        gridForm.row()
+                .label("Repeated")
+                .slider(repeatedProperty, 0, 100)
+                .commitOnRelease()
+                .commitOnRelease(repeatedPreviewProperty, Duration.hours(1))
+                .with(slider -> repeatedSlider = slider);
+
+        valueProperty.addListener((observable, oldValue, newValue) -> valueChangeCount++);
+        throttledProperty.addListener((observable, oldValue, newValue) -> throttledChangeCount++);
+    }
+
+    @Test
+    public void testCommitOnRelease() {
+        assertEquals(1.0, previewProperty.get(), 0.0);
+
+        interact(() -> {
+            slider.setValueChanging(true);
+            for (int i = 2; i <= 50; i++) {
+                slider.setValue(i);
+            }
+        });
+        assertEquals(1.0, valueProperty.get(), 0.0);
+        assertEquals(50.0, previewProperty.get(), 0.0);
+        assertEquals(0, valueChangeCount);
+
+        interact(() -> slider.setValueChanging(false));
+        assertEquals(50.0, valueProperty.get(), 0.0);
+        assertEquals(1, valueChangeCount);
+    }
+
+    @Test
+    public void testChangeWithoutDragCommittedImmediately() {
+        interact(() -> slider.increment());
+        assertEquals(slider.getValue(), valueProperty.get(), 0.0);
+        assertEquals(1, valueChangeCount);
+    }
+
+    @Test
+    public void testThrottledIntermediateCommit() {
+        interact(() -> {
+            throttledSlider.setValueChanging(true);
+            for (int i = 2; i <= 50; i++) {
+                throttledSlider.setValue(i);
+            }
+        });
+        assertEquals(1, throttledChangeCount);
+
+        interact(() -> throttledSlider.setValueChanging(false));
+        assertEquals(50.0, throttledProperty.get(), 0.0);
+        assertEquals(2, throttledChangeCount);
+    }
+
+    @Test
+    public void testPreviewFollowsModel() {
+        interact(() -> valueProperty.set(30));
+        assertEquals(30.0, slider.getValue(), 0.0);
+        assertEquals(30.0, previewProperty.get(), 0.0);
+    }
+
+    @Test
+    public void testRepeatedCallCommitsOnce() {
+        interact(() -> {
+            repeatedSlider.setValueChanging(true);
+            repeatedSlider.setValue(20);
+            repeatedSlider.setValue(40);
+        });
+        assertEquals(40.0, repeatedPreviewProperty.get(), 0.0);
+
+        interact(() -> repeatedSlider.setValueChanging(false));
+        assertEquals(40.0, repeatedProperty.get(), 0.0);
+        assertEquals(2, repeatedSetCount);
+    }
+}
@@ -0,0 +1,63 @@
+package ch.obermuhlner.javafx.gridform;
+
+import javafx.beans.property.*;
+import javafx.collections.FXCollections;
+
+/**
+ * Model classes and form fixtures shared by the tests.
+ */
+public final class TestModel {
+
+    private TestModel() {
+    }
+
+    public enum Animal {
+        Dog,
+        Cat,
+        Cow,
+        Fish
+    }
+
+    public static class Pet {
+        private final StringProperty name = new SimpleStringProperty();
+        private final DoubleProperty weight = new SimpleDoubleProperty();
+        private final ObjectProperty<Animal> animal = new SimpleObjectProperty<>();
+        private final ListProperty<Animal> friends = new SimpleListProperty<>(FXCollections.observableArrayList());
+
+        public Pet(String name, Animal... friends) {
+            this.name.set(name);
+            this.friends.setAll(friends);
+        }
+
+        public StringProperty nameProperty() {
+            return name;
+        }
+
+        public DoubleProperty weightProperty() {
+            return weight;
+        }
+
+        public ObjectProperty<Animal> animalProperty() {
+            return animal;
+        }
+
+        public ListProperty<Animal> friendsProperty() {
+            return friends;
+        }
+    }
+
+    /**
+     * Adds a radio button, a check box and a list view row for the animals to the form.
+     */
+    public static void animalSelectionRows(GridForm gridForm, ObjectProperty<Animal> animalProperty, ListProperty<Animal> selectedAnimalListProperty) {
+        gridForm.row()
+                .label("RadioButton")
+                .radioButtons(animalProperty, Animal.values());
+        gridForm.row()
+                .label("CheckBox")
+                .checkBoxes(selectedAnimalListProperty, Animal.values());
+        gridForm.row()
+                .label("ListView")
+                .listView(selectedAnimalListProperty, Animal.values());
+    }
+}
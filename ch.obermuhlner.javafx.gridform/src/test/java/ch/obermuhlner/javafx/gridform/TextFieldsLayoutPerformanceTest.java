@@ -0,0 +1,39 @@
+package ch.obermuhlner.javafx.gridform;
+
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+
+/**
+ * Layout performance of a long form of labeled text fields.
+ */
+public class TextFieldsLayoutPerformanceTest extends AbstractLayoutPerformanceTest {
+
+    private static final int ROW_COUNT = 500;
+
+    private final StringProperty[] stringProperties = new StringProperty[ROW_COUNT];
+
+    @Override
+    protected String getFormName() {
+        return "textFields";
+    }
+
+    @Override
+    protected void setup(GridForm gridForm) {
+        gridForm.batch(form -> {
+            for (int i = 0; i < ROW_COUNT; i++) {
+                stringProperties[i] = new SimpleStringProperty("Value " + i);
+                form.row()
+                        .label("Field " + i)
+                        .textField(stringProperties[i])
+                        .fillWidth();
+            }
+        });
+    }
+
+    @Override
+    protected void updateModel(int run) {
+        for (int i = 0; i < ROW_COUNT; i++) {
+            stringProperties[i].set("Value " + i + " run " + run);
+        }
+    }
+}
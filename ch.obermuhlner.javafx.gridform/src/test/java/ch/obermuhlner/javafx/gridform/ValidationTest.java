@@ -0,0 +1,177 @@
+package ch.obermuhlner.javafx.gridform;
+
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import javafx.scene.control.TextField;
+import javafx.scene.control.Tooltip;
+import javafx.util.Duration;
+import org.junit.After;
+import org.junit.Test;
+import org.testfx.util.WaitForAsyncUtils;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class ValidationTest extends AbstractGridFormTest {
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    private final StringProperty nameProperty = new SimpleStringProperty("Fido");
+    private final StringProperty codeProperty = new SimpleStringProperty("A1");
+
+    private final List<String> validatedNames = new CopyOnWriteArrayList<>();
+
+    private GridForm gridForm;
+    private TextField nameTextField;
+    private TextField codeTextField;
+
+    @Override
+    protected void setup(GridForm gridForm) {
+        this.gridForm = gridForm;
+        gridForm.setValidationExecutor(executor);
+        gridForm.setValidationDelay(Duration.millis(100));
+
+        gridForm.row()
+                .label("Name")
+                .textField(nameProperty)
+                .validate(this::validateName)
+                .with(textField -> nameTextField = textField);
+        gridForm.row()
+                .label("Code")
+                .textField(codeProperty)
+                .validate(code -> code.matches("[A-Z][0-9]+") ? null : "Code must be a letter followed by digits")
+                .with(textField -> codeTextField = textField);
+    }
+
+    @After
+    public void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    private String validateName(String name) {
+        validatedNames.add(name);
+        return name.isEmpty() ? "Name is required" : null;
+    }
+
+    @Test
+    public void testInitiallyValid() throws Exception {
+        awaitValidation();
+
+        assertTrue(gridForm.isValid());
+        assertEquals(1, validatedNames.size());
+    }
+
+    @Test
+    public void testDebounceValidatesLatestValueOnly() throws Exception {
+        awaitValidation();
+        validatedNames.clear();
+
+        interact(() -> {
+            nameTextField.setText("F");
+            nameTextField.setText("Fi");
+            nameTextField.setText("Fid");
+            nameTextField.setText("");
+        });
+        assertFalse(gridForm.isValid());
+
+        awaitValidation();
+
+        assertEquals(1, validatedNames.size());
+        assertEquals("", validatedNames.get(0));
+        assertFalse(gridForm.isValid());
+        assertTrue(nameTextField.getPseudoClassStates().contains(FormValidation.INVALID));
+        assertEquals("Name is required", nameTextField.getTooltip().getText());
+
+        interact(() -> nameTextField.setText("Rex"));
+        awaitValidation();
+
+        assertTrue(gridForm.isValid());
+        assertFalse(nameTextField.getPseudoClassStates().contains(FormValidation.INVALID));
+        assertNull(nameTextField.getTooltip());
+    }
+
+    @Test
+    public void testFormValidAggregatesFields() throws Exception {
+        interact(() -> {
+            nameTextField.setText("");
+            codeTextField.setText("x");
+        });
+        awaitValidation();
+        assertFalse(gridForm.isValid());
+
+        interact(() -> nameTextField.setText("Rex"));
+        awaitValidation();
+        assertFalse(gridForm.isValid());
+
+        interact(() -> codeTextField.setText("B2"));
+        awaitValidation();
+        assertTrue(gridForm.isValid());
+    }
+
+    @Test
+    public void testDisposeResetsValidity() throws Exception {
+        interact(() -> codeTextField.setText("x"));
+        awaitValidation();
+        assertFalse(gridForm.isValid());
+
+        interact(() -> gridForm.dispose());
+        assertTrue(gridForm.isValid());
+        assertFalse(codeTextField.getPseudoClassStates().contains(FormValidation.INVALID));
+    }
+
+    @Test
+    public void testThrowingValidatorMarksFieldInvalid() throws Exception {
+        StringProperty failingProperty = new SimpleStringProperty("ok");
+        TextField[] failingTextField = new TextField[1];
+        interact(() -> gridForm.row()
+                .label("Failing")
+                .textField(failingProperty)
+                .validate(text -> {
+                    if (text.equals("fail")) {
+                        throw new IllegalArgumentException("Backend unavailable");
+                    }
+                    return null;
+                })
+                .with(textField -> failingTextField[0] = textField));
+        awaitValidation();
+        assertTrue(gridForm.isValid());
+
+        interact(() -> failingTextField[0].setText("fail"));
+        awaitValidation();
+        assertFalse(gridForm.isValid());
+        assertEquals("Backend unavailable", failingTextField[0].getTooltip().getText());
+
+        interact(() -> failingTextField[0].setText("ok again"));
+        awaitValidation();
+        assertTrue(gridForm.isValid());
+    }
+
+    @Test
+    public void testOriginalTooltipRestored() throws Exception {
+        Tooltip originalTooltip = new Tooltip("Letter followed by digits");
+        interact(() -> codeTextField.setTooltip(originalTooltip));
+
+        interact(() -> codeTextField.setText("x"));
+        awaitValidation();
+        assertEquals("Code must be a letter followed by digits", codeTextField.getTooltip().getText());
+
+        interact(() -> codeTextField.setText("y"));
+        awaitValidation();
+
+        interact(() -> codeTextField.setText("C3"));
+        awaitValidation();
+        assertSame(originalTooltip, codeTextField.getTooltip());
+    }
+
+    private void awaitValidation() throws Exception {
+        sleep(200);
+        WaitForAsyncUtils.waitForFxEvents();
+        executor.submit(() -> {}).get(10, TimeUnit.SECONDS);
+        WaitForAsyncUtils.waitForFxEvents();
+    }
+}
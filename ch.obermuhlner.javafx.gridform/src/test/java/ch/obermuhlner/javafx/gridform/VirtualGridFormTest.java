@@ -0,0 +1,105 @@
+package ch.obermuhlner.javafx.gridform;
+
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.control.TextField;
+import javafx.stage.Stage;
+import javafx.util.Callback;
+import org.junit.Test;
+import org.testfx.framework.junit.ApplicationTest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class VirtualGridFormTest extends ApplicationTest {
+
+    private static final int ROW_COUNT = 5000;
+
+    private final AtomicInteger materializedRowCount = new AtomicInteger();
+    private final AtomicInteger cellCount = new AtomicInteger();
+    private final List<StringProperty> stringProperties = new ArrayList<>();
+    private final Set<TextField> createdTextFields = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private VirtualGridForm virtualGridForm;
+
+    @Override
+    public void start(Stage stage) {
+        virtualGridForm = new VirtualGridForm();
+        virtualGridForm.columnWidths(100, 200);
+        virtualGridForm.getListView().setPrefHeight(400);
+
+        for (int i = 0; i < ROW_COUNT; i++) {
+            String label = "Field " + i;
+            StringProperty stringProperty = new SimpleStringProperty("Value " + i);
+            stringProperties.add(stringProperty);
+            virtualGridForm.row(row -> {
+                materializedRowCount.incrementAndGet();
+                row.label(label)
+                        .textField(stringProperty)
+                        .with(createdTextFields::add);
+            });
+        }
+
+        Callback<ListView<Consumer<RowBuilder>>, ListCell<Consumer<RowBuilder>>> cellFactory = virtualGridForm.getListView().getCellFactory();
+        virtualGridForm.getListView().setCellFactory(listView -> {
+            cellCount.incrementAndGet();
+            return cellFactory.call(listView);
+        });
+
+        stage.setScene(new Scene(virtualGridForm.getListView()));
+        stage.show();
+    }
+
+    @Test
+    public void testOnlyVisibleRowsMaterialized() {
+        assertEquals(ROW_COUNT, virtualGridForm.getListView().getItems().size());
+        assertTrue("materialized " + materializedRowCount.get(), materializedRowCount.get() < 200);
+    }
+
+    @Test
+    public void testRecycledCellsReuseControls() {
+        for (int index = 100; index <= 1000; index += 100) {
+            int scrollIndex = index;
+            interact(() -> virtualGridForm.getListView().scrollTo(scrollIndex));
+        }
+
+        assertTrue("materialized " + materializedRowCount.get(), materializedRowCount.get() > cellCount.get());
+        assertTrue("text fields " + createdTextFields.size() + " cells " + cellCount.get(), createdTextFields.size() <= cellCount.get());
+    }
+
+    @Test
+    public void testRecycledCellsReleasePreviousRow() {
+        interact(() -> virtualGridForm.getListView().scrollTo(2000));
+
+        List<Integer> editedIndexes = new ArrayList<>();
+        interact(() -> {
+            for (Node node : virtualGridForm.getListView().lookupAll(".list-cell")) {
+                ListCell<?> cell = (ListCell<?>) node;
+                if (cell.isVisible() && !cell.isEmpty()) {
+                    ((TextField) cell.getGraphic().lookup(".text-field")).setText("Edited " + cell.getIndex());
+                    editedIndexes.add(cell.getIndex());
+                }
+            }
+        });
+
+        assertFalse(editedIndexes.isEmpty());
+        assertFalse(editedIndexes.contains(0));
+        for (int index : editedIndexes) {
+            assertEquals("Edited " + index, stringProperties.get(index).get());
+        }
+        assertEquals("Value 0", stringProperties.get(0).get());
+    }
+}
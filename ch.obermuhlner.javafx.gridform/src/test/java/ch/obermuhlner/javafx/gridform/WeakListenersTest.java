@@ -0,0 +1,74 @@
+package ch.obermuhlner.javafx.gridform;
+
+import ch.obermuhlner.javafx.gridform.TestModel.Animal;
+import javafx.beans.property.ListProperty;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleListProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.FXCollections;
+import javafx.scene.control.RadioButton;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.VBox;
+import org.junit.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class WeakListenersTest extends AbstractGridFormTest {
+
+    private final ObjectProperty<Animal> animalProperty = new SimpleObjectProperty<>(Animal.Cat);
+    private final ListProperty<Animal> selectedAnimalListProperty = new SimpleListProperty<>(FXCollections.observableArrayList());
+
+    @Override
+    protected void setup(GridForm gridForm) {
+    }
+
+    private GridForm buildForm(boolean weakListeners) {
+        GridForm gridForm = new GridForm(new GridPane());
+        gridForm.setWeakListeners(weakListeners);
+        TestModel.animalSelectionRows(gridForm, animalProperty, selectedAnimalListProperty);
+        return gridForm;
+    }
+
+    @Test
+    public void testWeakFormCollectable() {
+        assertNull(buildAndDrop(true).get());
+    }
+
+    @Test
+    public void testStrongFormNotCollectable() {
+        assertNotNull(buildAndDrop(false).get());
+    }
+
+    @Test
+    public void testWeakFormStillSynchronized() {
+        GridPane[] gridPane = new GridPane[1];
+        interact(() -> gridPane[0] = buildForm(true).getGridPane());
+
+        collectGarbage(() -> false);
+
+        interact(() -> animalProperty.set(Animal.Fish));
+        VBox radioButtons = (VBox) gridPane[0].getChildren().get(1);
+        assertTrue(((RadioButton) radioButtons.getChildren().get(Animal.Fish.ordinal())).isSelected());
+    }
+
+    private WeakReference<GridPane> buildAndDrop(boolean weakListeners) {
+        @SuppressWarnings("unchecked")
+        WeakReference<GridPane>[] reference = new WeakReference[1];
+        interact(() -> reference[0] = new WeakReference<>(buildForm(weakListeners).getGridPane()));
+
+        collectGarbage(() -> reference[0].get() == null);
+        return reference[0];
+    }
+
+    private void collectGarbage(BooleanSupplier done) {
+        for (int i = 0; i < 10 && !done.getAsBoolean(); i++) {
+            System.gc();
+            sleep(50);
+        }
+    }
+}